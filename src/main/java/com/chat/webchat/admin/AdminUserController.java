@@ -0,0 +1,38 @@
+package com.chat.webchat.admin;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.chat.webchat.appuser.AppUserRole;
+
+import lombok.AllArgsConstructor;
+
+@RestController
+@RequestMapping(path = "api/v1/admin/users")
+@AllArgsConstructor
+public class AdminUserController {
+
+    private AdminUserService adminUserService;
+
+    @GetMapping
+    public AdminUserPage search(
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam(required = false) Boolean locked,
+            @RequestParam(required = false) AppUserRole role,
+            @RequestParam(required = false) String emailPrefix,
+            @RequestParam(required = false) String usernamePrefix,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return adminUserService.search(
+                new AdminUserFilter(enabled, locked, role, emailPrefix, usernamePrefix, createdFrom, createdTo),
+                cursor,
+                size);
+    }
+}
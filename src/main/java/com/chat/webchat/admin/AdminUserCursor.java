@@ -0,0 +1,47 @@
+package com.chat.webchat.admin;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Position of the last row of a page: the sort column's value and the id.
+ * Sent to clients as an opaque base64url string.
+ */
+public record AdminUserCursor(AdminUserSort sort, String key, long id) {
+
+    public static AdminUserCursor after(AdminUserSort sort, AdminUserView last) {
+        String key = switch (sort) {
+            case ID -> "";
+            case EMAIL -> last.email();
+            case USERNAME -> last.usernameKey();
+            case CREATED -> last.created().toString();
+        };
+        return new AdminUserCursor(sort, key, last.id());
+    }
+
+    public String encode() {
+        String raw = sort.name() + '\n' + id + '\n' + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static AdminUserCursor decode(String cursor, AdminUserSort expectedSort) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\n", 3);
+            AdminUserSort sort = AdminUserSort.valueOf(parts[0]);
+            if (sort != expectedSort) {
+                throw new IllegalArgumentException("cursor belongs to a different search");
+            }
+            return new AdminUserCursor(sort, parts[2], Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor.");
+        }
+    }
+
+    public LocalDateTime created() {
+        return LocalDateTime.parse(key);
+    }
+}
@@ -0,0 +1,18 @@
+package com.chat.webchat.admin;
+
+import java.time.LocalDateTime;
+
+import com.chat.webchat.appuser.AppUserRole;
+
+/**
+ * Optional search criteria; null fields are not applied.
+ */
+public record AdminUserFilter(
+        Boolean enabled,
+        Boolean locked,
+        AppUserRole role,
+        String emailPrefix,
+        String usernamePrefix,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo) {
+}
@@ -0,0 +1,10 @@
+package com.chat.webchat.admin;
+
+import java.util.List;
+
+/**
+ * One page of users. Pass {@code nextCursor} as {@code cursor}, with the same
+ * filters, to fetch the next page; it is null on the last page.
+ */
+public record AdminUserPage(List<AdminUserView> users, String nextCursor) {
+}
@@ -0,0 +1,103 @@
+package com.chat.webchat.admin;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.chat.webchat.appuser.AppUser;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Keyset (seek) search over users. Only the filters that are set become
+ * predicates, and rows come back as {@link AdminUserView} projections rather
+ * than managed entities. Pages are ordered and sought on the column chosen by
+ * {@link AdminUserSort}, which is backed by an index leading on that column:
+ * email and username_key are unique (C collation, so prefix LIKE uses them),
+ * created is paired with id.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class AdminUserQuery {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<AdminUserView> findPage(AdminUserFilter filter, AdminUserSort sort, AdminUserCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AdminUserView> query = cb.createQuery(AdminUserView.class);
+        Root<AppUser> user = query.from(AppUser.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (cursor != null) {
+            predicates.add(seek(cb, user, cursor));
+        }
+        if (filter.enabled() != null) {
+            predicates.add(cb.equal(user.get("enabled"), filter.enabled()));
+        }
+        if (filter.locked() != null) {
+            predicates.add(cb.equal(user.get("locked"), filter.locked()));
+        }
+        if (filter.role() != null) {
+            predicates.add(cb.equal(user.get("appUserRole"), filter.role()));
+        }
+        if (filter.emailPrefix() != null) {
+            predicates.add(cb.like(user.get("email"), likePrefix(filter.emailPrefix()), '\\'));
+        }
+        if (filter.usernamePrefix() != null) {
+            predicates.add(cb.like(user.get("usernameKey"), likePrefix(filter.usernamePrefix()), '\\'));
+        }
+        if (filter.createdFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(user.get("created"), filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            predicates.add(cb.lessThan(user.get("created"), filter.createdTo()));
+        }
+
+        query.select(cb.construct(AdminUserView.class,
+                        user.get("id"),
+                        user.get("username"),
+                        user.get("usernameKey"),
+                        user.get("email"),
+                        user.get("appUserRole"),
+                        user.get("locked"),
+                        user.get("enabled"),
+                        user.get("created")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(switch (sort) {
+                    case ID -> List.of(cb.asc(user.get("id")));
+                    case EMAIL -> List.of(cb.asc(user.get("email")));
+                    case USERNAME -> List.of(cb.asc(user.get("usernameKey")));
+                    case CREATED -> List.of(cb.asc(user.get("created")), cb.asc(user.get("id")));
+                });
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static Predicate seek(CriteriaBuilder cb, Root<AppUser> user, AdminUserCursor cursor) {
+        return switch (cursor.sort()) {
+            case ID -> cb.greaterThan(user.get("id"), cursor.id());
+            case EMAIL -> cb.greaterThan(user.get("email"), cursor.key());
+            case USERNAME -> cb.greaterThan(user.get("usernameKey"), cursor.key());
+            // created >= c AND (created > c OR id > i): the first term bounds the index range.
+            case CREATED -> cb.and(
+                    cb.greaterThanOrEqualTo(user.get("created"), cursor.created()),
+                    cb.or(
+                            cb.greaterThan(user.get("created"), cursor.created()),
+                            cb.greaterThan(user.get("id"), cursor.id())));
+        };
+    }
+
+    private static String likePrefix(String prefix) {
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
@@ -0,0 +1,42 @@
+package com.chat.webchat.admin;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.chat.webchat.appuser.AppUserNormalizer;
+
+import lombok.AllArgsConstructor;
+
+@Service
+@AllArgsConstructor
+public class AdminUserService {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final AdminUserQuery adminUserQuery;
+
+    public AdminUserPage search(AdminUserFilter filter, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        AdminUserFilter normalized = new AdminUserFilter(
+                filter.enabled(),
+                filter.locked(),
+                filter.role(),
+                AppUserNormalizer.normalizeEmail(filter.emailPrefix()),
+                AppUserNormalizer.normalizeUsername(filter.usernamePrefix()),
+                filter.createdFrom(),
+                filter.createdTo());
+
+        AdminUserSort sort = AdminUserSort.of(normalized);
+        AdminUserCursor after = cursor == null ? null : AdminUserCursor.decode(cursor, sort);
+
+        // Fetch one extra row to learn whether another page exists.
+        List<AdminUserView> users = adminUserQuery.findPage(normalized, sort, after, pageSize + 1);
+        if (users.size() <= pageSize) {
+            return new AdminUserPage(users, null);
+        }
+        List<AdminUserView> page = users.subList(0, pageSize);
+        AdminUserView last = page.get(pageSize - 1);
+        return new AdminUserPage(page, AdminUserCursor.after(sort, last).encode());
+    }
+}
@@ -0,0 +1,25 @@
+package com.chat.webchat.admin;
+
+/**
+ * Column a search pages over. It follows the most selective filter that is
+ * set, so the keyset seek and the filter use the same index.
+ */
+public enum AdminUserSort {
+    ID,
+    EMAIL,
+    USERNAME,
+    CREATED;
+
+    public static AdminUserSort of(AdminUserFilter filter) {
+        if (filter.emailPrefix() != null) {
+            return EMAIL;
+        }
+        if (filter.usernamePrefix() != null) {
+            return USERNAME;
+        }
+        if (filter.createdFrom() != null || filter.createdTo() != null) {
+            return CREATED;
+        }
+        return ID;
+    }
+}
@@ -0,0 +1,20 @@
+package com.chat.webchat.admin;
+
+import java.time.LocalDateTime;
+
+import com.chat.webchat.appuser.AppUserRole;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * @param usernameKey stored canonical username, kept for the keyset cursor
+ */
+public record AdminUserView(
+        Long id,
+        String username,
+        @JsonIgnore String usernameKey,
+        String email,
+        AppUserRole role,
+        boolean locked,
+        boolean enabled,
+        LocalDateTime created) {
+}
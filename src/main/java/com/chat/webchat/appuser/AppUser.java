@@ -1,5 +1,6 @@
 package com.chat.webchat.appuser;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -7,13 +8,18 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -24,8 +30,15 @@ import lombok.Setter;
 @EqualsAndHashCode
 @NoArgsConstructor
 @Entity
+@Table(uniqueConstraints = {
+    @UniqueConstraint(name = AppUser.EMAIL_CONSTRAINT, columnNames = "email"),
+    @UniqueConstraint(name = AppUser.USERNAME_KEY_CONSTRAINT, columnNames = "username_key")
+})
 public class AppUser implements UserDetails {
 
+    public static final String EMAIL_CONSTRAINT = "uk_app_user_email";
+    public static final String USERNAME_KEY_CONSTRAINT = "uk_app_user_username_key";
+
     @Id
     @SequenceGenerator(
         name = "user_sequence",
@@ -38,6 +51,13 @@ public class AppUser implements UserDetails {
     )
     private Long id;
     private String username;
+
+    // Canonical (normalized) username, used for uniqueness and lookups.
+    @Column(nullable = false)
+    private String usernameKey;
+
+    // Always stored normalized, see AppUserNormalizer.
+    @Column(nullable = false)
     private String email;
     private String password;
 
@@ -46,6 +66,9 @@ public class AppUser implements UserDetails {
     private boolean locked = false;
     private boolean enabled = false;
 
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime created;
+
     public AppUser(
             String username,
             String email,
@@ -55,6 +78,21 @@ public class AppUser implements UserDetails {
         this.email = email;
         this.password = password;
         this.appUserRole = appUserRole;
+        normalize();
+    }
+
+    @PrePersist
+    void prePersist() {
+        if (created == null) {
+            created = LocalDateTime.now();
+        }
+        normalize();
+    }
+
+    @PreUpdate
+    void normalize() {
+        this.email = AppUserNormalizer.normalizeEmail(email);
+        this.usernameKey = AppUserNormalizer.normalizeUsername(username);
     }
 
     @Override
@@ -0,0 +1,68 @@
+package com.chat.webchat.appuser;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Read-only view of an {@link AppUser} with just what authentication needs.
+ * Built by a JPQL constructor expression, so it is never managed by the
+ * persistence context. Like Spring's {@code User}, the password hash is left
+ * out of {@code toString}, {@code equals} and {@code hashCode}, so it never
+ * reaches logs of the authenticated principal.
+ */
+public record AppUserCredentials(
+        Long id,
+        String email,
+        String password,
+        AppUserRole appUserRole,
+        boolean locked,
+        boolean enabled) implements UserDetails {
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(appUserRole.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return !locked;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof AppUserCredentials credentials && email.equals(credentials.email);
+    }
+
+    @Override
+    public int hashCode() {
+        return email.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "AppUserCredentials[id=" + id
+                + ", email=" + email
+                + ", appUserRole=" + appUserRole
+                + ", locked=" + locked
+                + ", enabled=" + enabled + "]";
+    }
+}
@@ -0,0 +1,28 @@
+package com.chat.webchat.appuser;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Canonical forms of user identifiers. Stored columns and lookups both go
+ * through here, so equality checks stay exact-match and index friendly.
+ */
+public final class AppUserNormalizer {
+
+    private AppUserNormalizer() {
+    }
+
+    public static String normalizeEmail(String email) {
+        if (email == null) {
+            return null;
+        }
+        return email.strip().toLowerCase(Locale.ROOT);
+    }
+
+    public static String normalizeUsername(String username) {
+        if (username == null) {
+            return null;
+        }
+        return Normalizer.normalize(username.strip(), Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+}
@@ -13,8 +13,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public interface AppUserRepo extends JpaRepository<AppUser, Long> {
     
-    Optional<AppUser> findByUsername(String username);
+    // Arguments are expected in canonical form, see AppUserNormalizer.
     Optional<AppUser> findByEmail(String email);
+    boolean existsByEmail(String email);
+    boolean existsByUsernameKey(String usernameKey);
+
+    @Query("SELECT new com.chat.webchat.appuser.AppUserCredentials("
+            + "a.id, a.email, a.password, a.appUserRole, a.locked, a.enabled) "
+            + "FROM AppUser a WHERE a.email = ?1")
+    Optional<AppUserCredentials> findCredentialsByEmail(String email);
 
     @Transactional
     @Modifying
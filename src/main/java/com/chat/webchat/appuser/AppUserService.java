@@ -1,15 +1,17 @@
 package com.chat.webchat.appuser;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.chat.webchat.profiling.RegistrationStage;
+import com.chat.webchat.profiling.RegistrationStageEvent;
 import com.chat.webchat.registration.token.ConfirmationToken;
 import com.chat.webchat.registration.token.ConfirmationTokenService;
+import com.chat.webchat.registration.token.TokenGenerator;
 
 import lombok.AllArgsConstructor;
 
@@ -20,37 +22,40 @@ public class AppUserService implements UserDetailsService {
     private final AppUserRepo appUserRepository;
     private final BCryptPasswordEncoder encoder;
     private final ConfirmationTokenService confirmationTokenService;
+    private final TokenGenerator tokenGenerator;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        return appUserRepository.findByEmail(email)
+        return appUserRepository.findCredentialsByEmail(AppUserNormalizer.normalizeEmail(email))
                 .orElseThrow(
                         () -> new UsernameNotFoundException(
                                 String.format("User with email [%s] is not found", email)));
     }
 
     public boolean emailExists(String email) {
-        return appUserRepository.findByEmail(email).isPresent();
+        return appUserRepository.existsByEmail(AppUserNormalizer.normalizeEmail(email));
     }
 
     public boolean usernameExists(String username) {
-        return appUserRepository.findByUsername(username).isPresent();
+        return appUserRepository.existsByUsernameKey(AppUserNormalizer.normalizeUsername(username));
     }
 
     public String signUpUser(AppUser appUser) {
 
-        String encoded = encoder.encode(appUser.getPassword());
-        appUser.setPassword(encoded);
-        appUserRepository.save(appUser);
+        appUser.setPassword(RegistrationStageEvent.time(
+                RegistrationStage.PASSWORD_HASH, () -> encoder.encode(appUser.getPassword())));
 
-        String token = UUID.randomUUID().toString();
+        RegistrationStageEvent.time(RegistrationStage.USER_SAVE, () -> appUserRepository.save(appUser));
+
+        String token = tokenGenerator.generate();
         ConfirmationToken confirmationToken = new ConfirmationToken(
                 token,
                 LocalDateTime.now(),
                 LocalDateTime.now().plusMinutes(15),
                 appUser);
 
-        confirmationTokenService.saveConfirmationToken(confirmationToken);
+        RegistrationStageEvent.time(
+                RegistrationStage.TOKEN_SAVE, () -> confirmationTokenService.saveConfirmationToken(confirmationToken));
 
         return token;
     }
@@ -7,6 +7,9 @@ import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import com.chat.webchat.profiling.RegistrationStage;
+import com.chat.webchat.profiling.RegistrationStageEvent;
+
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.AllArgsConstructor;
@@ -32,7 +35,7 @@ public class EmailService implements EmailSender {
             helper.setTo(to);
             helper.setSubject("Confirm");
             helper.setFrom("info@domain.com");
-            mailSender.send(mimeMessage);
+            RegistrationStageEvent.time(RegistrationStage.SMTP_SEND, () -> mailSender.send(mimeMessage));
         } catch(MessagingException e){
             LOGGER.error("fail to send email", e);
             throw new IllegalStateException("fail to send email");
@@ -0,0 +1,78 @@
+package com.chat.webchat.limit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit adjusted by AIMD on observed latency: the limit grows by
+ * one while requests finish under the target latency and the limit is being
+ * used, and is cut by {@link #BACKOFF_RATIO} when a request is slower than the
+ * target or fails. The cut is applied at most once per target latency window,
+ * so a burst of slow responses to the same overload counts as one signal.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private long lastBackoffNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration targetLatency,
+            LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(String.format(
+                    "Expected 1 <= min <= initial <= max, got min=%d initial=%d max=%d.",
+                    minLimit, initialLimit, maxLimit));
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatency.toNanos();
+        this.nanoClock = nanoClock;
+        this.limit = initialLimit;
+        this.lastBackoffNanos = nanoClock.getAsLong() - targetLatencyNanos;
+    }
+
+    public boolean tryAcquire(RequestLane lane) {
+        int allowed = Math.max(1, (int) (limit * lane.getShare()));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos, boolean failed) {
+        int concurrent = inFlight.getAndDecrement();
+        onSample(latencyNanos, failed, concurrent);
+    }
+
+    private synchronized void onSample(long latencyNanos, boolean failed, int concurrent) {
+        if (failed || latencyNanos > targetLatencyNanos) {
+            long now = nanoClock.getAsLong();
+            if (now - lastBackoffNanos >= targetLatencyNanos) {
+                lastBackoffNanos = now;
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            }
+        } else if (concurrent * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,28 @@
+package com.chat.webchat.limit;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+            @Value("${app.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${app.concurrency.min-limit:4}") int minLimit,
+            @Value("${app.concurrency.max-limit:200}") int maxLimit,
+            @Value("${app.concurrency.target-latency:500ms}") Duration targetLatency,
+            MeterRegistry registry) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                initialLimit, minLimit, maxLimit, targetLatency, System::nanoTime);
+        Gauge.builder("concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit).register(registry);
+        Gauge.builder("concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight).register(registry);
+        return limiter;
+    }
+}
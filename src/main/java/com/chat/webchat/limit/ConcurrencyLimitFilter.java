@@ -0,0 +1,98 @@
+package com.chat.webchat.limit;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Puts login, confirmation and registration behind the adaptive concurrency
+ * limit. Runs ahead of Spring Security so that the login form post is
+ * covered too. Requests over the limit get an immediate 503.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    // Same shapes as the matchers in WebSecurityConfig; "/**" also takes a trailing slash.
+    private static final String LOGIN_PATH = "/login/**";
+    private static final String CONFIRMATION_PATH = "/api/v*/registration/confirm/**";
+    private static final String REGISTRATION_PATH = "/api/v*/registration/**";
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private static final byte[] BODY = "{\"code\":\"OVERLOADED\",\"message\":\"Server is busy, try again shortly.\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Map<RequestLane, Counter> shed = new EnumMap<>(RequestLane.class);
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, MeterRegistry registry) {
+        this.limiter = limiter;
+        for (RequestLane lane : RequestLane.values()) {
+            shed.put(lane, Counter.builder("concurrency.shed")
+                    .tag("lane", lane.name())
+                    .register(registry));
+        }
+    }
+
+    static RequestLane laneOf(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if ("POST".equals(method) && PATH_MATCHER.match(LOGIN_PATH, path)) {
+            return RequestLane.LOGIN;
+        }
+        if ("GET".equals(method) && PATH_MATCHER.match(CONFIRMATION_PATH, path)) {
+            return RequestLane.CONFIRMATION;
+        }
+        if ("POST".equals(method) && PATH_MATCHER.match(REGISTRATION_PATH, path)) {
+            return RequestLane.REGISTRATION;
+        }
+        return null;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return laneOf(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestLane lane = laneOf(request);
+        if (!limiter.tryAcquire(lane)) {
+            shed.get(lane).increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(BODY.length);
+            response.getOutputStream().write(BODY);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.chat.webchat.limit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Priority lanes sharing one concurrency limit. A lane may only use its
+ * share of the limit, so lower-priority lanes are shed first as it shrinks.
+ */
+@Getter
+@AllArgsConstructor
+public enum RequestLane {
+    LOGIN(1.0),
+    CONFIRMATION(0.8),
+    REGISTRATION(0.5);
+
+    private final double share;
+}
@@ -0,0 +1,72 @@
+package com.chat.webchat.profiling;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Summarizes the registration stage events of a JFR recording into
+ * per-stage latency percentiles. Depends on the JDK only, so it can be run
+ * straight from source:
+ * {@code java src/main/java/com/chat/webchat/profiling/RegistrationRecordingAnalyzer.java registration.jfr}
+ */
+public final class RegistrationRecordingAnalyzer {
+
+    private static final String EVENT_NAME = "com.chat.webchat.RegistrationStage";
+
+    public record StageSummary(int count, long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos) {
+    }
+
+    private RegistrationRecordingAnalyzer() {
+    }
+
+    public static Map<String, StageSummary> summarize(Path recording) throws IOException {
+        Map<String, List<Long>> durations = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (EVENT_NAME.equals(event.getEventType().getName())) {
+                    durations.computeIfAbsent(event.getString("stage"), stage -> new ArrayList<>())
+                            .add(event.getDuration().toNanos());
+                }
+            }
+        }
+
+        Map<String, StageSummary> summaries = new TreeMap<>();
+        durations.forEach((stage, values) -> {
+            long[] sorted = values.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            summaries.put(stage, new StageSummary(
+                    sorted.length,
+                    percentile(sorted, 50),
+                    percentile(sorted, 90),
+                    percentile(sorted, 99),
+                    sorted[sorted.length - 1]));
+        });
+        return summaries;
+    }
+
+    // Nearest-rank percentile.
+    private static long percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: RegistrationRecordingAnalyzer <recording.jfr>");
+            System.exit(1);
+        }
+        System.out.printf("%-16s %8s %10s %10s %10s %10s%n", "stage", "count", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        summarize(Path.of(args[0])).forEach((stage, s) -> System.out.printf(
+                "%-16s %8d %10.3f %10.3f %10.3f %10.3f%n",
+                stage, s.count(), s.p50Nanos() / 1e6, s.p90Nanos() / 1e6, s.p99Nanos() / 1e6, s.maxNanos() / 1e6));
+    }
+}
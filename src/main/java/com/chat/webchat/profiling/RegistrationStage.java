@@ -0,0 +1,14 @@
+package com.chat.webchat.profiling;
+
+public enum RegistrationStage {
+    EMAIL_LOOKUP,
+    USERNAME_LOOKUP,
+    PASSWORD_HASH,
+    USER_SAVE,
+    TOKEN_SAVE,
+    EMAIL_BUILD,
+    SMTP_SEND,
+    TOKEN_LOOKUP,
+    TOKEN_CONFIRM,
+    USER_ENABLE
+}
@@ -3,9 +3,15 @@ package com.chat.webchat.registration;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+
+import com.chat.webchat.registration.idempotency.IdempotencyStore;
+import com.chat.webchat.registration.idempotency.RegistrationFingerprint;
+import com.chat.webchat.registration.validation.RegistrationRequestValidator;
+
 import lombok.AllArgsConstructor;
 
 @RestController
@@ -14,10 +20,23 @@ import lombok.AllArgsConstructor;
 public class RegistrationController {
     
     private RegistrationService registrationService;
+    private RegistrationRequestValidator registrationRequestValidator;
+    private IdempotencyStore idempotencyStore;
+    private RegistrationFingerprint registrationFingerprint;
 
     @PostMapping
-    public String register(@RequestBody RegistrationRequest request){
-        return registrationService.register(request);
+    public String register(
+            @RequestBody RegistrationRequest request,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey){
+        registrationRequestValidator.validate(request);
+        if (idempotencyKey == null) {
+            return registrationService.register(request);
+        }
+        registrationRequestValidator.validateIdempotencyKey(idempotencyKey);
+        return idempotencyStore.execute(
+                idempotencyKey,
+                registrationFingerprint.of(request),
+                () -> registrationService.register(request));
     }
 
         @GetMapping(path = "confirm")
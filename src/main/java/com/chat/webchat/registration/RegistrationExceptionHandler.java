@@ -0,0 +1,45 @@
+package com.chat.webchat.registration;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.chat.webchat.registration.exception.InvalidRegistrationRequestException;
+import com.chat.webchat.registration.exception.RegistrationError;
+import com.chat.webchat.registration.exception.RegistrationException;
+import com.chat.webchat.registration.validation.RegistrationRejectionCounter;
+import com.chat.webchat.registration.validation.RejectionReason;
+
+import lombok.AllArgsConstructor;
+
+@RestControllerAdvice(assignableTypes = RegistrationController.class)
+@AllArgsConstructor
+public class RegistrationExceptionHandler {
+
+    private final RegistrationRejectionCounter rejectionCounter;
+
+    @ExceptionHandler(RegistrationException.class)
+    public ResponseEntity<RegistrationError> handleRegistrationException(RegistrationException e) {
+        return ResponseEntity.status(e.getStatus()).body(e.getBody());
+    }
+
+    @ExceptionHandler(InvalidRegistrationRequestException.class)
+    public ResponseEntity<RegistrationError> handleInvalidRequest(InvalidRegistrationRequestException e) {
+        rejectionCounter.increment(e.getReason());
+        return handleRegistrationException(e);
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<RegistrationError> handleUnreadableBody(HttpMessageNotReadableException e) {
+        // Rejections raised while deserializing may arrive wrapped by Jackson.
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof InvalidRegistrationRequestException invalid) {
+                return handleInvalidRequest(invalid);
+            }
+        }
+        rejectionCounter.increment(RejectionReason.MALFORMED_BODY);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(RejectionReason.MALFORMED_BODY.getError());
+    }
+}
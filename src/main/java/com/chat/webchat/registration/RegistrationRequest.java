@@ -1,5 +1,8 @@
 package com.chat.webchat.registration;
 
+import com.chat.webchat.registration.validation.RegistrationRequestDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -9,6 +12,7 @@ import lombok.ToString;
 @AllArgsConstructor
 @EqualsAndHashCode
 @ToString
+@JsonDeserialize(using = RegistrationRequestDeserializer.class)
 public class RegistrationRequest {
     private final String username;
     private final String email;
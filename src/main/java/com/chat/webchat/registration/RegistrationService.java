@@ -2,12 +2,25 @@
 package com.chat.webchat.registration;
 
 import java.time.LocalDateTime;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.chat.webchat.appuser.AppUser;
+import com.chat.webchat.appuser.AppUserNormalizer;
 import com.chat.webchat.appuser.AppUserRole;
 import com.chat.webchat.appuser.AppUserService;
 import com.chat.webchat.email.EmailSender;
+import com.chat.webchat.profiling.RegistrationStage;
+import com.chat.webchat.profiling.RegistrationStageEvent;
+import com.chat.webchat.registration.event.RegistrationEventPublisher;
+import com.chat.webchat.registration.event.RegistrationEventType;
+import com.chat.webchat.registration.exception.EmailTakenException;
+import com.chat.webchat.registration.exception.TokenAlreadyConfirmedException;
+import com.chat.webchat.registration.exception.TokenExpiredException;
+import com.chat.webchat.registration.exception.TokenNotFoundException;
+import com.chat.webchat.registration.exception.UsernameTakenException;
 import com.chat.webchat.registration.token.ConfirmationToken;
 import com.chat.webchat.registration.token.ConfirmationTokenService;
 
@@ -20,34 +33,47 @@ public class RegistrationService {
     private final AppUserService appUserService;
     private final ConfirmationTokenService confirmationTokenService;
     private final EmailSender emailSender;
+    private final RegistrationEventPublisher eventPublisher;
 
     public String register(RegistrationRequest request) {
 
         String link = "http://localhost:8080/api/v1/registration/confirm?token=";
+        String email = AppUserNormalizer.normalizeEmail(request.getEmail());
 
-        boolean emailExists = appUserService.emailExists(request.getEmail());
-        System.out.println("emailExists: " + emailExists);  // Для диагностики
+        boolean emailExists = RegistrationStageEvent.time(
+                RegistrationStage.EMAIL_LOOKUP, () -> appUserService.emailExists(email));
 
         if (emailExists) {
 
-            throw new IllegalStateException(
-                    String.format("Email [%s] has already been taken.", request.getEmail()));
+            throw new EmailTakenException(email);
 
         } else {
 
-            boolean usernameExists = appUserService.usernameExists(request.getUsername());
+            boolean usernameExists = RegistrationStageEvent.time(
+                    RegistrationStage.USERNAME_LOOKUP, () -> appUserService.usernameExists(request.getUsername()));
             if (usernameExists) {
-                throw new IllegalStateException(
-                        String.format("Username [%s] has already been taken.", request.getUsername()));
+                throw new UsernameTakenException(request.getUsername());
             } else {
 
-                String token = appUserService.signUpUser(new AppUser(
-                        request.getUsername(),
-                        request.getEmail(),
-                        request.getPassword(),
-                        AppUserRole.USER));
-
-                emailSender.send(request.getEmail(), buildEmail(request.getUsername(), link + token));
+                String token;
+                try {
+                    token = appUserService.signUpUser(new AppUser(
+                            request.getUsername(),
+                            email,
+                            request.getPassword(),
+                            AppUserRole.USER));
+                } catch (DataIntegrityViolationException e) {
+                    // A concurrent signup won the race between the lookups above and the insert.
+                    throw takenException(e, request.getUsername(), email);
+                }
+                eventPublisher.publish(RegistrationEventType.REGISTERED, request.getUsername(), email);
+
+                String confirmationLink = link + token;
+                String message = RegistrationStageEvent.time(
+                        RegistrationStage.EMAIL_BUILD, () -> buildEmail(request.getUsername(), confirmationLink));
+                // Timed inside EmailService as SMTP_SEND.
+                emailSender.send(email, message);
+                eventPublisher.publish(RegistrationEventType.EMAIL_SENT, request.getUsername(), email);
                 return token;
             }
         }
@@ -55,25 +81,45 @@ public class RegistrationService {
 
     @Transactional
     public String confirmToken(String token) {
-        ConfirmationToken confirmationToken = confirmationTokenService.getToken(token)
-                .orElseThrow(() -> new IllegalStateException("Token not found."));
+        ConfirmationToken confirmationToken = RegistrationStageEvent.time(RegistrationStage.TOKEN_LOOKUP,
+                () -> confirmationTokenService.getToken(token).orElseThrow(TokenNotFoundException::new));
 
         if (confirmationToken.getConfirmed() != null) {
-            throw new IllegalStateException("Email address already confirmed.");
+            throw new TokenAlreadyConfirmedException();
         }
 
         LocalDateTime expires = confirmationToken.getExpires();
         if (expires.isBefore(LocalDateTime.now())) {
-            throw new IllegalStateException("Token expired.");
+            throw new TokenExpiredException();
         }
 
-        confirmationTokenService.setConfirmed(token);
-        appUserService.enableAppUser(confirmationToken.getAppUser().getUsername());
+        RegistrationStageEvent.time(RegistrationStage.TOKEN_CONFIRM, () -> confirmationTokenService.setConfirmed(token));
+
+        AppUser appUser = confirmationToken.getAppUser();
+        RegistrationStageEvent.time(
+                RegistrationStage.USER_ENABLE, () -> appUserService.enableAppUser(appUser.getUsername()));
+        eventPublisher.publishAfterCommit(RegistrationEventType.CONFIRMED, appUser.getUsername(), appUser.getEmail());
 
         return "Token confirmed successfully.";
 
     }
 
+    private static RuntimeException takenException(
+            DataIntegrityViolationException e, String username, String email) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraint = violation.getConstraintName();
+                if (AppUser.EMAIL_CONSTRAINT.equalsIgnoreCase(constraint)) {
+                    return new EmailTakenException(email);
+                }
+                if (AppUser.USERNAME_KEY_CONSTRAINT.equalsIgnoreCase(constraint)) {
+                    return new UsernameTakenException(username);
+                }
+            }
+        }
+        return e;
+    }
+
     private String buildEmail(String name, String link) {
         return "<div style=\"font-family:Helvetica,Arial,sans-serif;font-size:16px;margin:0;color:#0b0c0c\">\n" +
                 "\n" +
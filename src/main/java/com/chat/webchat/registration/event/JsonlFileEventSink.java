@@ -0,0 +1,47 @@
+package com.chat.webchat.registration.event;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Appends one JSON object per line to a local file.
+ */
+public class JsonlFileEventSink implements RegistrationEventSink, Closeable {
+
+    private final JsonGenerator generator;
+
+    public JsonlFileEventSink(Path file) throws IOException {
+        this.generator = new JsonFactory().createGenerator(Files.newBufferedWriter(
+                file,
+                StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND));
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(RegistrationEvent event, boolean endOfBatch) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", event.getType().name());
+        generator.writeStringField("username", event.getUsername());
+        generator.writeStringField("email", event.getEmail());
+        generator.writeNumberField("timestamp", event.getTimestamp());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        if (endOfBatch) {
+            generator.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
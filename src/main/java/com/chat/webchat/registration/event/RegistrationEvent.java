@@ -0,0 +1,29 @@
+package com.chat.webchat.registration.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A slot of the registration event ring buffer. Instances are preallocated
+ * and reused, so sinks must copy whatever they keep beyond the call.
+ */
+@Getter
+@ToString
+public class RegistrationEvent {
+
+    private RegistrationEventType type;
+    private String username;
+    private String email;
+    private long timestamp;
+
+    void set(RegistrationEventType type, String username, String email, long timestamp) {
+        this.type = type;
+        this.username = username;
+        this.email = email;
+        this.timestamp = timestamp;
+    }
+
+    void clear() {
+        set(null, null, null, 0L);
+    }
+}
@@ -0,0 +1,20 @@
+package com.chat.webchat.registration.event;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RegistrationEventConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RegistrationEventSink registrationEventSink(
+            @Value("${app.registration.events.file:registration-events.jsonl}") Path file) throws IOException {
+        return new JsonlFileEventSink(file);
+    }
+}
@@ -0,0 +1,105 @@
+package com.chat.webchat.registration.event;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventTranslatorThreeArg;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import com.lmax.disruptor.util.DaemonThreadFactory;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Publishes registration events into a preallocated ring buffer that a
+ * single consumer thread drains in batches into a {@link RegistrationEventSink}.
+ * Publishing never blocks and does not allocate: when the buffer is full the
+ * event is dropped and counted instead.
+ */
+@Component
+public class RegistrationEventPublisher {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(RegistrationEventPublisher.class);
+
+    private static final EventTranslatorThreeArg<RegistrationEvent, RegistrationEventType, String, String> TRANSLATOR =
+            (event, sequence, type, username, email) -> event.set(type, username, email, System.currentTimeMillis());
+
+    private final Disruptor<RegistrationEvent> disruptor;
+    private final RingBuffer<RegistrationEvent> ringBuffer;
+    private final AtomicLong dropped = new AtomicLong();
+
+    public RegistrationEventPublisher(
+            RegistrationEventSink sink,
+            @Value("${app.registration.events.buffer-size:4096}") int bufferSize) {
+        this.disruptor = new Disruptor<>(
+                RegistrationEvent::new,
+                bufferSize,
+                DaemonThreadFactory.INSTANCE,
+                ProducerType.MULTI,
+                new SleepingWaitStrategy());
+        this.disruptor.handleEventsWith(new SinkHandler(sink));
+        this.ringBuffer = disruptor.start();
+    }
+
+    public void publish(RegistrationEventType type, String username, String email) {
+        if (!ringBuffer.tryPublishEvent(TRANSLATOR, type, username, email)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Publishes once the current transaction commits, and not at all if it
+     * rolls back. Without an active transaction the event is published at once.
+     */
+    public void publishAfterCommit(RegistrationEventType type, String username, String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(type, username, email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(type, username, email);
+            }
+        });
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            disruptor.shutdown(5, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.warn("registration events still pending at shutdown");
+            disruptor.halt();
+        }
+    }
+
+    private record SinkHandler(RegistrationEventSink sink) implements EventHandler<RegistrationEvent> {
+
+        @Override
+        public void onEvent(RegistrationEvent event, long sequence, boolean endOfBatch) {
+            try {
+                sink.write(event, endOfBatch);
+            } catch (Exception e) {
+                LOGGER.error("fail to write registration event", e);
+            } finally {
+                event.clear();
+            }
+        }
+    }
+}
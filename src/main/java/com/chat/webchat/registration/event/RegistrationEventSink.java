@@ -0,0 +1,14 @@
+package com.chat.webchat.registration.event;
+
+import java.io.IOException;
+
+/**
+ * Consumer side of the registration event stream. Called from a single
+ * consumer thread; {@code endOfBatch} marks the last event currently
+ * available, which is the place to flush.
+ */
+public interface RegistrationEventSink {
+
+    void write(RegistrationEvent event, boolean endOfBatch) throws IOException;
+
+}
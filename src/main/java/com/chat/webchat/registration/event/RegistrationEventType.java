@@ -0,0 +1,7 @@
+package com.chat.webchat.registration.event;
+
+public enum RegistrationEventType {
+    REGISTERED,
+    EMAIL_SENT,
+    CONFIRMED
+}
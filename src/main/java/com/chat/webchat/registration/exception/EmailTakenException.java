@@ -0,0 +1,11 @@
+package com.chat.webchat.registration.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class EmailTakenException extends RegistrationException {
+
+    public EmailTakenException(String email) {
+        super(HttpStatus.CONFLICT, new RegistrationError(
+                "EMAIL_TAKEN", "Email [" + email + "] has already been taken."));
+    }
+}
@@ -0,0 +1,13 @@
+package com.chat.webchat.registration.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class IdempotencyKeyReusedException extends RegistrationException {
+
+    private static final RegistrationError BODY = new RegistrationError(
+            "IDEMPOTENCY_KEY_REUSED", "Idempotency key was already used with a different request.");
+
+    public IdempotencyKeyReusedException() {
+        super(HttpStatus.UNPROCESSABLE_ENTITY, BODY);
+    }
+}
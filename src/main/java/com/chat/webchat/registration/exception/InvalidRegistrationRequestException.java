@@ -0,0 +1,16 @@
+package com.chat.webchat.registration.exception;
+
+import com.chat.webchat.registration.validation.RejectionReason;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidRegistrationRequestException extends RegistrationException {
+
+    private final RejectionReason reason;
+
+    public InvalidRegistrationRequestException(RejectionReason reason) {
+        super(reason.getStatus(), reason.getError());
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,7 @@
+package com.chat.webchat.registration.exception;
+
+/**
+ * JSON body returned for an expected registration outcome.
+ */
+public record RegistrationError(String code, String message) {
+}
@@ -0,0 +1,28 @@
+package com.chat.webchat.registration.exception;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+
+/**
+ * Base type for expected registration outcomes (duplicate signups, bad
+ * confirmation links). These are part of normal traffic, so no stack trace
+ * is captured and the response body is built once per exception.
+ */
+@Getter
+public abstract class RegistrationException extends IllegalStateException {
+
+    private final HttpStatus status;
+    private final RegistrationError body;
+
+    protected RegistrationException(HttpStatus status, RegistrationError body) {
+        super(body.message());
+        this.status = status;
+        this.body = body;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
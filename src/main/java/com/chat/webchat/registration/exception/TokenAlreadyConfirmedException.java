@@ -0,0 +1,13 @@
+package com.chat.webchat.registration.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class TokenAlreadyConfirmedException extends RegistrationException {
+
+    private static final RegistrationError BODY = new RegistrationError(
+            "ALREADY_CONFIRMED", "Email address already confirmed.");
+
+    public TokenAlreadyConfirmedException() {
+        super(HttpStatus.CONFLICT, BODY);
+    }
+}
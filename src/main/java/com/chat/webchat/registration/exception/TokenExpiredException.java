@@ -0,0 +1,12 @@
+package com.chat.webchat.registration.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class TokenExpiredException extends RegistrationException {
+
+    private static final RegistrationError BODY = new RegistrationError("TOKEN_EXPIRED", "Token expired.");
+
+    public TokenExpiredException() {
+        super(HttpStatus.GONE, BODY);
+    }
+}
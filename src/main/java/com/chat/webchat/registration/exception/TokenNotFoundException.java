@@ -0,0 +1,12 @@
+package com.chat.webchat.registration.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class TokenNotFoundException extends RegistrationException {
+
+    private static final RegistrationError BODY = new RegistrationError("TOKEN_NOT_FOUND", "Token not found.");
+
+    public TokenNotFoundException() {
+        super(HttpStatus.NOT_FOUND, BODY);
+    }
+}
@@ -0,0 +1,11 @@
+package com.chat.webchat.registration.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class UsernameTakenException extends RegistrationException {
+
+    public UsernameTakenException(String username) {
+        super(HttpStatus.CONFLICT, new RegistrationError(
+                "USERNAME_TAKEN", "Username [" + username + "] has already been taken."));
+    }
+}
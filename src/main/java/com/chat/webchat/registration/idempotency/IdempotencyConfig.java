@@ -0,0 +1,26 @@
+package com.chat.webchat.registration.idempotency;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(
+            @Value("${app.registration.idempotency.max-entries:10000}") int maxEntries,
+            @Value("${app.registration.idempotency.ttl:24h}") Duration ttl,
+            MeterRegistry registry) {
+        return new InMemoryIdempotencyStore(maxEntries, ttl, System::nanoTime, registry);
+    }
+
+    @Bean
+    public RegistrationFingerprint registrationFingerprint() {
+        return new RegistrationFingerprint();
+    }
+}
@@ -0,0 +1,22 @@
+package com.chat.webchat.registration.idempotency;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs a registration at most once per idempotency key. Concurrent calls with
+ * the same key wait for the first one, and later calls within the key's
+ * lifetime get its result. Failed calls are not remembered, so they can be
+ * retried.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * @param key         client supplied idempotency key
+     * @param fingerprint keyed digest of the request payload, see
+     *                    {@link RegistrationFingerprint}; reusing a key with a
+     *                    different payload is rejected
+     * @param action      the work to run if the key is new
+     */
+    String execute(String key, byte[] fingerprint, Supplier<String> action);
+
+}
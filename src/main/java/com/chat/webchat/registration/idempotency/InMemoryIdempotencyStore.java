@@ -0,0 +1,133 @@
+package com.chat.webchat.registration.idempotency;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.chat.webchat.registration.exception.IdempotencyKeyReusedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link IdempotencyStore} kept in a bounded map. Every entry lives for the
+ * same TTL, so insertion order is also expiry order, and the oldest entries
+ * are evicted first when the store is full. A failed call drops both its
+ * entry and its place in that order.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private record Entry(byte[] fingerprint, CompletableFuture<String> result, long expiresAt) {
+    }
+
+    private record Node(String key, Entry entry) {
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Deque<Node> insertionOrder = new ConcurrentLinkedDeque<>();
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final Counter misses;
+    private final Counter hits;
+    private final Counter coalesced;
+    private final Counter conflicts;
+
+    public InMemoryIdempotencyStore(int maxEntries, Duration ttl, LongSupplier nanoClock, MeterRegistry registry) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.misses = counter(registry, "miss");
+        this.hits = counter(registry, "hit");
+        this.coalesced = counter(registry, "coalesced");
+        this.conflicts = counter(registry, "conflict");
+    }
+
+    private static Counter counter(MeterRegistry registry, String outcome) {
+        return Counter.builder("registration.idempotency")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    @Override
+    public String execute(String key, byte[] fingerprint, Supplier<String> action) {
+        long now = nanoClock.getAsLong();
+        Entry fresh = new Entry(fingerprint, new CompletableFuture<>(), now + ttlNanos);
+
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, fresh);
+            if (existing == null) {
+                Node node = new Node(key, fresh);
+                insertionOrder.addLast(node);
+                evict(now);
+                misses.increment();
+                return run(node, action);
+            }
+            if (existing.expiresAt() - now <= 0) {
+                entries.remove(key, existing);
+                continue;
+            }
+            if (!MessageDigest.isEqual(existing.fingerprint(), fingerprint)) {
+                conflicts.increment();
+                throw new IdempotencyKeyReusedException();
+            }
+            (existing.result().isDone() ? hits : coalesced).increment();
+            return await(existing.result());
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Number of keys tracked for eviction; stays within {@link #size()} plus
+     * any expired keys not yet evicted.
+     */
+    public int trackedKeys() {
+        return insertionOrder.size();
+    }
+
+    private String run(Node node, Supplier<String> action) {
+        Entry entry = node.entry();
+        try {
+            String result = action.get();
+            entry.result().complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            entries.remove(node.key(), entry);
+            // The failed node is the newest or close to it, so search from the tail.
+            insertionOrder.removeLastOccurrence(node);
+            entry.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static String await(CompletableFuture<String> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evict(long now) {
+        Node oldest;
+        while ((oldest = insertionOrder.peek()) != null
+                && (entries.size() > maxEntries || oldest.entry().expiresAt() - now <= 0)) {
+            if (insertionOrder.remove(oldest)) {
+                entries.remove(oldest.key(), oldest.entry());
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.chat.webchat.registration.idempotency;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.chat.webchat.appuser.AppUserNormalizer;
+import com.chat.webchat.registration.RegistrationRequest;
+
+/**
+ * HMAC-SHA256 of a registration payload, used to detect an idempotency key
+ * reused with a different body. The key is random per instance and never
+ * leaves the process, so fingerprints held in memory cannot be used to guess
+ * passwords offline. Username and email are taken in their canonical form,
+ * and every field is length prefixed so that moving bytes between fields
+ * changes the digest.
+ */
+public final class RegistrationFingerprint {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public RegistrationFingerprint() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        this.key = new SecretKeySpec(bytes, ALGORITHM);
+    }
+
+    public byte[] of(RegistrationRequest request) {
+        Mac mac = mac();
+        update(mac, AppUserNormalizer.normalizeUsername(request.getUsername()));
+        update(mac, AppUserNormalizer.normalizeEmail(request.getEmail()));
+        update(mac, request.getPassword());
+        return mac.doFinal();
+    }
+
+    private static void update(Mac mac, String field) {
+        byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+        mac.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        mac.update(bytes);
+    }
+
+    // Mac instances are not thread safe, so each fingerprint gets its own.
+    private Mac mac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.chat.webchat.registration.token;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,6 +16,10 @@ public interface ConfirmationTokenRepo extends JpaRepository<ConfirmationToken,
 
         Optional<ConfirmationToken> findByToken(String token);
 
+        // Confirmation needs the owning user, so fetch it in the same query.
+        @EntityGraph(attributePaths = "appUser")
+        Optional<ConfirmationToken> findWithAppUserByToken(String token);
+
         @Transactional
         @Modifying
         @Query("UPDATE ConfirmationToken c SET c.confirmed = ?2 WHERE c.token = ?1")
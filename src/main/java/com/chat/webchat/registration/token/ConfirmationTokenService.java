@@ -18,7 +18,7 @@ public class ConfirmationTokenService {
     }
     
     public Optional<ConfirmationToken> getToken(String token) {
-        return confirmationTokenRepository.findByToken(token);
+        return confirmationTokenRepository.findWithAppUserByToken(token);
     }
 
     public int setConfirmed(String token) {
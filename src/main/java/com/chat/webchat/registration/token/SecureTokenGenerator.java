@@ -0,0 +1,99 @@
+package com.chat.webchat.registration.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates URL-safe confirmation tokens. Each thread owns its own DRBG
+ * instance and draws random bytes for many tokens at once, so concurrent
+ * signups never contend on a shared {@link SecureRandom}. Bytes are encoded
+ * straight to unpadded base64url.
+ */
+@Component
+public class SecureTokenGenerator implements TokenGenerator {
+
+    private static final byte[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final int MIN_TOKEN_BYTES = 16;
+    private static final int TOKENS_PER_BATCH = 64;
+
+    private final int tokenBytes;
+    private final int tokenLength;
+    private final ThreadLocal<RandomPool> pools;
+
+    public SecureTokenGenerator(@Value("${app.registration.token.bytes:24}") int tokenBytes) {
+        if (tokenBytes < MIN_TOKEN_BYTES) {
+            throw new IllegalArgumentException(
+                    String.format("Token must have at least %d random bytes, got %d.", MIN_TOKEN_BYTES, tokenBytes));
+        }
+        this.tokenBytes = tokenBytes;
+        this.tokenLength = (tokenBytes * 8 + 5) / 6;
+        this.pools = ThreadLocal.withInitial(() -> new RandomPool(tokenBytes * TOKENS_PER_BATCH));
+    }
+
+    @Override
+    public String generate() {
+        RandomPool pool = pools.get();
+        byte[] src = pool.buffer;
+        int offset = pool.take(tokenBytes);
+        int end = offset + tokenBytes;
+        byte[] out = new byte[tokenLength];
+        int o = 0;
+
+        int i = offset;
+        for (; i + 3 <= end; i += 3) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+            out[o++] = ALPHABET[bits >>> 18];
+            out[o++] = ALPHABET[(bits >>> 12) & 0x3f];
+            out[o++] = ALPHABET[(bits >>> 6) & 0x3f];
+            out[o++] = ALPHABET[bits & 0x3f];
+        }
+        int remaining = end - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xff) << 16;
+            out[o++] = ALPHABET[bits >>> 18];
+            out[o] = ALPHABET[(bits >>> 12) & 0x3f];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8;
+            out[o++] = ALPHABET[bits >>> 18];
+            out[o++] = ALPHABET[(bits >>> 12) & 0x3f];
+            out[o] = ALPHABET[(bits >>> 6) & 0x3f];
+        }
+
+        return new String(out, StandardCharsets.ISO_8859_1);
+    }
+
+    private static final class RandomPool {
+
+        private final SecureRandom random = newSecureRandom();
+        private final byte[] buffer;
+        private int position;
+
+        private RandomPool(int size) {
+            this.buffer = new byte[size];
+            this.position = size;
+        }
+
+        private int take(int length) {
+            if (position + length > buffer.length) {
+                random.nextBytes(buffer);
+                position = 0;
+            }
+            int offset = position;
+            position += length;
+            return offset;
+        }
+
+        private static SecureRandom newSecureRandom() {
+            try {
+                return SecureRandom.getInstance("DRBG");
+            } catch (NoSuchAlgorithmException e) {
+                return new SecureRandom();
+            }
+        }
+    }
+}
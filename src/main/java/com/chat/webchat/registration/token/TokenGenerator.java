@@ -0,0 +1,7 @@
+package com.chat.webchat.registration.token;
+
+public interface TokenGenerator {
+
+    String generate();
+
+}
@@ -0,0 +1,144 @@
+package com.chat.webchat.registration.validation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.chat.webchat.registration.exception.InvalidRegistrationRequestException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Caps the body size of registration posts. A declared Content-Length over
+ * the limit is rejected before the body is read; bodies without one (chunked)
+ * are cut off as soon as more than the limit has been read.
+ */
+@Component
+public class RegistrationBodySizeFilter extends OncePerRequestFilter {
+
+    // Same shape as the registration matcher in WebSecurityConfig.
+    private static final String REGISTRATION_PATH = "/api/v*/registration/**";
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private static final byte[] BODY = ("{\"code\":\"BODY_TOO_LARGE\",\"message\":\""
+            + RejectionReason.BODY_TOO_LARGE.getError().message() + "\"}").getBytes(StandardCharsets.UTF_8);
+
+    private final RegistrationRejectionCounter rejectionCounter;
+    private final long maxBodyBytes;
+
+    public RegistrationBodySizeFilter(
+            RegistrationRejectionCounter rejectionCounter,
+            @Value("${app.registration.max-body-bytes:4096}") long maxBodyBytes) {
+        this.rejectionCounter = rejectionCounter;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !"POST".equals(request.getMethod()) || !PATH_MATCHER.match(REGISTRATION_PATH, path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            rejectionCounter.increment(RejectionReason.BODY_TOO_LARGE);
+            response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(BODY.length);
+            response.getOutputStream().write(BODY);
+            return;
+        }
+        chain.doFilter(new LimitedBodyRequest(request, maxBodyBytes), response);
+    }
+
+    private static final class LimitedBodyRequest extends HttpServletRequestWrapper {
+
+        private final long maxBodyBytes;
+        private ServletInputStream inputStream;
+
+        private LimitedBodyRequest(HttpServletRequest request, long maxBodyBytes) {
+            super(request);
+            this.maxBodyBytes = maxBodyBytes;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new LimitedInputStream(super.getInputStream(), maxBodyBytes);
+            }
+            return inputStream;
+        }
+    }
+
+    private static final class LimitedInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final long maxBytes;
+        private long read;
+
+        private LimitedInputStream(ServletInputStream delegate, long maxBytes) {
+            this.delegate = delegate;
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = delegate.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) {
+            read += n;
+            if (read > maxBytes) {
+                throw new InvalidRegistrationRequestException(RejectionReason.BODY_TOO_LARGE);
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+            delegate.setReadListener(listener);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.chat.webchat.registration.validation;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts rejected registration requests, tagged by {@link RejectionReason}.
+ */
+@Component
+public class RegistrationRejectionCounter {
+
+    private final Map<RejectionReason, Counter> counters = new EnumMap<>(RejectionReason.class);
+
+    public RegistrationRejectionCounter(MeterRegistry registry) {
+        for (RejectionReason reason : RejectionReason.values()) {
+            counters.put(reason, Counter.builder("registration.rejected")
+                    .tag("reason", reason.name())
+                    .register(registry));
+        }
+    }
+
+    public void increment(RejectionReason reason) {
+        counters.get(reason).increment();
+    }
+
+    public double count(RejectionReason reason) {
+        return counters.get(reason).count();
+    }
+}
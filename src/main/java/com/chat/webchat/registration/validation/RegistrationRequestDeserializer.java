@@ -0,0 +1,54 @@
+package com.chat.webchat.registration.validation;
+
+import java.io.IOException;
+
+import com.chat.webchat.registration.RegistrationRequest;
+import com.chat.webchat.registration.exception.InvalidRegistrationRequestException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+/**
+ * Reads a {@link RegistrationRequest} field by field and rejects oversized
+ * values before they are turned into strings. Unknown fields are skipped.
+ */
+public class RegistrationRequestDeserializer extends JsonDeserializer<RegistrationRequest> {
+
+    @Override
+    public RegistrationRequest deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new InvalidRegistrationRequestException(RejectionReason.MALFORMED_BODY);
+        }
+
+        String username = null;
+        String email = null;
+        String password = null;
+
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (field) {
+                case "username" -> username = readString(parser, RegistrationRequestValidator.MAX_USERNAME_LENGTH);
+                case "email" -> email = readString(parser, RegistrationRequestValidator.MAX_EMAIL_LENGTH);
+                case "password" -> password = readString(parser, RegistrationRequestValidator.MAX_PASSWORD_BYTES);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new RegistrationRequest(username, email, password);
+    }
+
+    private static String readString(JsonParser parser, int maxLength) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            throw new InvalidRegistrationRequestException(RejectionReason.MALFORMED_BODY);
+        }
+        if (parser.getTextLength() > maxLength) {
+            throw new InvalidRegistrationRequestException(RejectionReason.FIELD_TOO_LONG);
+        }
+        return parser.getText();
+    }
+}
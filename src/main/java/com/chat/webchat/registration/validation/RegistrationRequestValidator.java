@@ -0,0 +1,51 @@
+package com.chat.webchat.registration.validation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import com.chat.webchat.registration.RegistrationRequest;
+import com.chat.webchat.registration.exception.InvalidRegistrationRequestException;
+
+/**
+ * Cheap shape checks that run before any database or bcrypt work.
+ */
+@Component
+public class RegistrationRequestValidator {
+
+    public static final int MAX_USERNAME_LENGTH = 32;
+    public static final int MAX_EMAIL_LENGTH = 254;
+    // BCrypt only uses the first 72 bytes of a password. A UTF-8 character
+    // takes at least one byte, so this also caps the length in characters.
+    public static final int MAX_PASSWORD_BYTES = 72;
+    public static final int MIN_PASSWORD_LENGTH = 8;
+    public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    private static final Pattern USERNAME = Pattern.compile("[A-Za-z0-9._-]{3,32}");
+    private static final Pattern EMAIL = Pattern.compile("[^@\\s]{1,64}@[^@\\s]+\\.[^@\\s.]+");
+
+    public void validate(RegistrationRequest request) {
+        if (request.getUsername() == null || request.getEmail() == null || request.getPassword() == null) {
+            throw new InvalidRegistrationRequestException(RejectionReason.MISSING_FIELD);
+        }
+        if (!USERNAME.matcher(request.getUsername()).matches()) {
+            throw new InvalidRegistrationRequestException(RejectionReason.INVALID_USERNAME);
+        }
+        String email = request.getEmail().strip();
+        if (email.length() > MAX_EMAIL_LENGTH || !EMAIL.matcher(email).matches()) {
+            throw new InvalidRegistrationRequestException(RejectionReason.INVALID_EMAIL);
+        }
+        String password = request.getPassword();
+        if (password.length() < MIN_PASSWORD_LENGTH
+                || password.getBytes(StandardCharsets.UTF_8).length > MAX_PASSWORD_BYTES) {
+            throw new InvalidRegistrationRequestException(RejectionReason.INVALID_PASSWORD);
+        }
+    }
+
+    public void validateIdempotencyKey(String key) {
+        if (key.isEmpty() || key.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new InvalidRegistrationRequestException(RejectionReason.INVALID_IDEMPOTENCY_KEY);
+        }
+    }
+}
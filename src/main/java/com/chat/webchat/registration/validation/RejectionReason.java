@@ -0,0 +1,31 @@
+package com.chat.webchat.registration.validation;
+
+import org.springframework.http.HttpStatus;
+
+import com.chat.webchat.registration.exception.RegistrationError;
+
+import lombok.Getter;
+
+@Getter
+public enum RejectionReason {
+    BODY_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "Request body is too large."),
+    MALFORMED_BODY("Request body is malformed."),
+    FIELD_TOO_LONG("A field exceeds its maximum length."),
+    MISSING_FIELD("Username, email and password are required."),
+    INVALID_USERNAME("Username must be 3-32 letters, digits, '.', '_' or '-'."),
+    INVALID_EMAIL("Email address is invalid."),
+    INVALID_PASSWORD("Password must be at least 8 characters and at most 72 bytes in UTF-8."),
+    INVALID_IDEMPOTENCY_KEY("Idempotency-Key must be 1-255 characters.");
+
+    private final HttpStatus status;
+    private final RegistrationError error;
+
+    RejectionReason(String message) {
+        this(HttpStatus.BAD_REQUEST, message);
+    }
+
+    RejectionReason(HttpStatus status, String message) {
+        this.status = status;
+        this.error = new RegistrationError(name(), message);
+    }
+}
@@ -2,6 +2,7 @@ package com.chat.webchat.security.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import com.chat.webchat.appuser.AppUserRole;
 import com.chat.webchat.appuser.AppUserService;
 import lombok.AllArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -30,6 +31,7 @@ public class WebSecurityConfig {
                 .authorizeHttpRequests(auth -> {
                     auth.requestMatchers("/error/**").permitAll();
                     auth.requestMatchers("/api/v*/registration/**").permitAll();
+                    auth.requestMatchers("/api/v*/admin/**").hasAuthority(AppUserRole.ADMIN.name());
                     auth.anyRequest().authenticated();
                 })
                 .formLogin(withDefaults())
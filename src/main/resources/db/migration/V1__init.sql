@@ -0,0 +1,27 @@
+CREATE SEQUENCE user_sequence START WITH 1 INCREMENT BY 1;
+CREATE SEQUENCE confirmation_token_sequence START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE app_user (
+    id            BIGINT       NOT NULL PRIMARY KEY,
+    username      VARCHAR(255),
+    username_key  VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    password      VARCHAR(255),
+    app_user_role VARCHAR(255),
+    locked        BOOLEAN      NOT NULL,
+    enabled       BOOLEAN      NOT NULL,
+    CONSTRAINT uk_app_user_email UNIQUE (email),
+    CONSTRAINT uk_app_user_username_key UNIQUE (username_key)
+);
+
+CREATE TABLE confirmation_token (
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    token       VARCHAR(255) NOT NULL,
+    created     TIMESTAMP(6) NOT NULL,
+    expires     TIMESTAMP(6) NOT NULL,
+    confirmed   TIMESTAMP(6),
+    app_user_id BIGINT       NOT NULL REFERENCES app_user (id),
+    CONSTRAINT uk_confirmation_token_token UNIQUE (token)
+);
+
+CREATE INDEX idx_confirmation_token_app_user_id ON confirmation_token (app_user_id);
@@ -0,0 +1,12 @@
+ALTER TABLE app_user ADD COLUMN created TIMESTAMP(6);
+UPDATE app_user SET created = now() WHERE created IS NULL;
+ALTER TABLE app_user ALTER COLUMN created SET NOT NULL;
+
+-- email and username_key hold normalized keys, so byte order is the right
+-- order for them. Under the C collation their existing unique indexes serve
+-- both prefix LIKE filters and the keyset ORDER BY of the admin search.
+ALTER TABLE app_user ALTER COLUMN email TYPE VARCHAR(255) COLLATE "C";
+ALTER TABLE app_user ALTER COLUMN username_key TYPE VARCHAR(255) COLLATE "C";
+
+-- Keyset order for searches filtered by creation time.
+CREATE INDEX idx_app_user_created ON app_user (created, id);
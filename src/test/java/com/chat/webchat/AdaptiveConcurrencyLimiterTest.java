@@ -0,0 +1,168 @@
+package com.chat.webchat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.chat.webchat.limit.AdaptiveConcurrencyLimiter;
+import com.chat.webchat.limit.RequestLane;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(1);
+    private static final Duration TARGET = Duration.ofMillis(100);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void testRegistrationIsShedBeforeLogin() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, TARGET, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(RequestLane.REGISTRATION));
+        }
+        assertFalse(limiter.tryAcquire(RequestLane.REGISTRATION));
+        assertTrue(limiter.tryAcquire(RequestLane.CONFIRMATION));
+        assertTrue(limiter.tryAcquire(RequestLane.CONFIRMATION));
+        assertTrue(limiter.tryAcquire(RequestLane.CONFIRMATION));
+        assertFalse(limiter.tryAcquire(RequestLane.CONFIRMATION));
+        assertTrue(limiter.tryAcquire(RequestLane.LOGIN));
+        assertTrue(limiter.tryAcquire(RequestLane.LOGIN));
+        assertFalse(limiter.tryAcquire(RequestLane.LOGIN));
+    }
+
+    @Test
+    public void testSlowResponsesShrinkLimitToMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 100, TARGET, clock::get);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire(RequestLane.LOGIN));
+            limiter.release(SLOW, false);
+            clock.addAndGet(TARGET.toNanos());
+        }
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    public void testBurstOfSlowResponsesBacksOffOncePerWindow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 100, TARGET, clock::get);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(RequestLane.LOGIN));
+        }
+        for (int i = 0; i < 10; i++) {
+            limiter.release(SLOW, false);
+        }
+        assertEquals(18, limiter.getLimit());
+
+        clock.addAndGet(TARGET.toNanos());
+        assertTrue(limiter.tryAcquire(RequestLane.LOGIN));
+        limiter.release(SLOW, false);
+        assertEquals(16, limiter.getLimit());
+    }
+
+    @Test
+    public void testFastResponsesGrowLimitOnlyWhenUsed() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, TARGET, clock::get);
+
+        // A single request at a time does not use the limit, so it stays put.
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limiter.tryAcquire(RequestLane.LOGIN));
+            limiter.release(FAST, false);
+        }
+        assertEquals(10, limiter.getLimit());
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(RequestLane.LOGIN));
+        }
+        limiter.release(FAST, false);
+        assertEquals(11, limiter.getLimit());
+    }
+
+    @Test
+    public void testFailuresShrinkLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 1, 100, TARGET, clock::get);
+
+        assertTrue(limiter.tryAcquire(RequestLane.LOGIN));
+        limiter.release(FAST, true);
+
+        assertEquals(18, limiter.getLimit());
+    }
+
+    /**
+     * Load test: 48 clients against a backend whose latency grows with
+     * concurrency. The limit settles near the target latency, and the
+     * registration lane absorbs most of the shedding. Runs for two seconds of
+     * wall-clock time, so it is left out of the default build: mvn -Pload test
+     */
+    @Tag("load")
+    @Test
+    public void testOverloadKeepsLatencyBoundedAndShedsRegistrationFirst() throws InterruptedException {
+        Duration target = Duration.ofMillis(20);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 2, 200, target, System::nanoTime);
+        RequestLane[] lanes = RequestLane.values();
+        Map<RequestLane, AtomicLongArray> outcomes = new EnumMap<>(RequestLane.class);
+        for (RequestLane lane : lanes) {
+            // [admitted, shed]
+            outcomes.put(lane, new AtomicLongArray(2));
+        }
+        AtomicLong slowAdmitted = new AtomicLong();
+        AtomicLong admitted = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+
+        ExecutorService clients = Executors.newFixedThreadPool(48);
+        for (int c = 0; c < 48; c++) {
+            RequestLane lane = lanes[c % lanes.length];
+            clients.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    if (!limiter.tryAcquire(lane)) {
+                        outcomes.get(lane).incrementAndGet(1);
+                        sleepMillis(2);
+                        continue;
+                    }
+                    outcomes.get(lane).incrementAndGet(0);
+                    long start = System.nanoTime();
+                    // Simulated backend: 2ms per request currently in flight.
+                    sleepMillis(2L * limiter.getInFlight());
+                    long latency = System.nanoTime() - start;
+                    limiter.release(latency, false);
+                    admitted.incrementAndGet();
+                    if (latency > target.toNanos() * 3) {
+                        slowAdmitted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        clients.shutdown();
+        assertTrue(clients.awaitTermination(10, TimeUnit.SECONDS));
+
+        long loginShed = outcomes.get(RequestLane.LOGIN).get(1);
+        long registrationShed = outcomes.get(RequestLane.REGISTRATION).get(1);
+        assertTrue(registrationShed > loginShed,
+                String.format("registration shed %d, login shed %d", registrationShed, loginShed));
+        assertTrue(outcomes.get(RequestLane.LOGIN).get(0) > outcomes.get(RequestLane.REGISTRATION).get(0));
+        assertTrue(limiter.getLimit() < 48, "limit " + limiter.getLimit());
+        assertTrue(slowAdmitted.get() * 10 < admitted.get(),
+                String.format("%d of %d admitted requests were slow", slowAdmitted.get(), admitted.get()));
+    }
+
+    private static void sleepMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
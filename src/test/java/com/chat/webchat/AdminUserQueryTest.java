@@ -0,0 +1,99 @@
+package com.chat.webchat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.chat.webchat.admin.AdminUserCursor;
+import com.chat.webchat.admin.AdminUserFilter;
+import com.chat.webchat.admin.AdminUserQuery;
+import com.chat.webchat.admin.AdminUserSort;
+import com.chat.webchat.admin.AdminUserView;
+import com.chat.webchat.appuser.AppUser;
+import com.chat.webchat.appuser.AppUserRole;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(AdminUserQuery.class)
+public class AdminUserQueryTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AdminUserQuery adminUserQuery;
+
+    private AppUser user(String username, String email, LocalDateTime created) {
+        AppUser user = new AppUser(username, email, "hash", AppUserRole.USER);
+        user.setCreated(created);
+        return entityManager.persist(user);
+    }
+
+    @Test
+    public void testCreatedSeekWalksTiesInIdOrder() {
+        // Three users share one timestamp, so paging must fall back to id within it.
+        List<Long> expected = List.of(
+                user("a", "a@example.com", CREATED).getId(),
+                user("b", "b@example.com", CREATED.plusMinutes(1)).getId(),
+                user("c", "c@example.com", CREATED.plusMinutes(1)).getId(),
+                user("d", "d@example.com", CREATED.plusMinutes(1)).getId(),
+                user("e", "e@example.com", CREATED.plusMinutes(2)).getId());
+        user("old", "old@example.com", CREATED.minusDays(1));
+        entityManager.flush();
+
+        AdminUserFilter byCreated = new AdminUserFilter(null, null, null, null, null, CREATED, null);
+        List<Long> seen = new ArrayList<>();
+        AdminUserCursor cursor = null;
+        do {
+            List<AdminUserView> page = adminUserQuery.findPage(byCreated, AdminUserSort.CREATED, cursor, 2);
+            page.forEach(view -> seen.add(view.id()));
+            cursor = page.size() < 2 ? null : AdminUserCursor.after(AdminUserSort.CREATED, page.get(1));
+        } while (cursor != null);
+
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    public void testPrefixWildcardsAreMatchedLiterally() {
+        user("under", "a_b@example.com", CREATED);
+        user("any", "axb@example.com", CREATED);
+        user("percent", "a%c@example.com", CREATED);
+        user("slash", "a\\d@example.com", CREATED);
+        entityManager.flush();
+
+        assertEquals(List.of("a_b@example.com"), emails(new AdminUserFilter(null, null, null, "a_", null, null, null)));
+        assertEquals(List.of("a%c@example.com"), emails(new AdminUserFilter(null, null, null, "a%", null, null, null)));
+        assertEquals(List.of("a\\d@example.com"), emails(new AdminUserFilter(null, null, null, "a\\", null, null, null)));
+    }
+
+    @Test
+    public void testUsernameSeekContinuesAfterStoredKey() {
+        user("Carol", "carol@example.com", CREATED);
+        user("alice", "alice@example.com", CREATED);
+        user("Bob", "bob@example.com", CREATED);
+        entityManager.flush();
+
+        AdminUserFilter byUsername = new AdminUserFilter(null, null, null, null, "", null, null);
+        List<AdminUserView> first = adminUserQuery.findPage(byUsername, AdminUserSort.USERNAME, null, 2);
+        List<AdminUserView> second = adminUserQuery.findPage(byUsername, AdminUserSort.USERNAME,
+                AdminUserCursor.after(AdminUserSort.USERNAME, first.get(1)), 2);
+
+        assertEquals(List.of("alice", "Bob"), first.stream().map(AdminUserView::username).toList());
+        assertEquals(List.of("Carol"), second.stream().map(AdminUserView::username).toList());
+    }
+
+    private List<String> emails(AdminUserFilter filter) {
+        return adminUserQuery.findPage(filter, AdminUserSort.EMAIL, null, 10).stream()
+                .map(AdminUserView::email)
+                .toList();
+    }
+}
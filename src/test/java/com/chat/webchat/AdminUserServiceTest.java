@@ -0,0 +1,128 @@
+package com.chat.webchat;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.chat.webchat.admin.AdminUserCursor;
+import com.chat.webchat.admin.AdminUserFilter;
+import com.chat.webchat.admin.AdminUserPage;
+import com.chat.webchat.admin.AdminUserQuery;
+import com.chat.webchat.admin.AdminUserService;
+import com.chat.webchat.admin.AdminUserSort;
+import com.chat.webchat.admin.AdminUserView;
+import com.chat.webchat.appuser.AppUserRole;
+
+@ExtendWith(MockitoExtension.class)
+public class AdminUserServiceTest {
+
+    private static final AdminUserFilter NO_FILTER = new AdminUserFilter(null, null, null, null, null, null, null);
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private AdminUserQuery adminUserQuery;
+
+    @InjectMocks
+    private AdminUserService adminUserService;
+
+    private static List<AdminUserView> users(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new AdminUserView(id, "User" + id, "legacy-" + id, "user" + id + "@example.com",
+                        AppUserRole.USER, false, true, CREATED.plusMinutes(id)))
+                .toList();
+    }
+
+    @Test
+    public void testPageWithMoreRowsReturnsCursorOnLastRow() {
+        when(adminUserQuery.findPage(NO_FILTER, AdminUserSort.ID, null, 4)).thenReturn(users(11, 14));
+
+        AdminUserPage page = adminUserService.search(NO_FILTER, null, 3);
+
+        assertEquals(3, page.users().size());
+        AdminUserCursor cursor = AdminUserCursor.decode(page.nextCursor(), AdminUserSort.ID);
+        assertEquals(13L, cursor.id());
+    }
+
+    @Test
+    public void testCursorIsPassedBackToQuery() {
+        String cursor = new AdminUserCursor(AdminUserSort.ID, "", 13L).encode();
+        when(adminUserQuery.findPage(NO_FILTER, AdminUserSort.ID, new AdminUserCursor(AdminUserSort.ID, "", 13L), 4))
+                .thenReturn(users(14, 15));
+
+        AdminUserPage page = adminUserService.search(NO_FILTER, cursor, 3);
+
+        assertEquals(2, page.users().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    public void testPrefixSearchSeeksOnFilteredColumn() {
+        AdminUserFilter byEmail = new AdminUserFilter(null, null, null, "user", null, null, null);
+        when(adminUserQuery.findPage(byEmail, AdminUserSort.EMAIL, null, 3)).thenReturn(users(1, 3));
+
+        AdminUserPage page = adminUserService.search(byEmail, null, 2);
+
+        AdminUserCursor cursor = AdminUserCursor.decode(page.nextCursor(), AdminUserSort.EMAIL);
+        assertEquals("user2@example.com", cursor.key());
+    }
+
+    @Test
+    public void testUsernameCursorUsesStoredKey() {
+        AdminUserFilter byUsername = new AdminUserFilter(null, null, null, null, "user", null, null);
+        when(adminUserQuery.findPage(byUsername, AdminUserSort.USERNAME, null, 3)).thenReturn(users(1, 3));
+
+        AdminUserPage page = adminUserService.search(byUsername, null, 2);
+
+        // The seek compares against username_key, so the cursor carries the stored key as is.
+        assertEquals("legacy-2", AdminUserCursor.decode(page.nextCursor(), AdminUserSort.USERNAME).key());
+    }
+
+    @Test
+    public void testCreatedRangeSeeksOnCreatedAndId() {
+        AdminUserFilter byCreated = new AdminUserFilter(null, null, null, null, null, CREATED, null);
+        when(adminUserQuery.findPage(byCreated, AdminUserSort.CREATED, null, 3)).thenReturn(users(1, 3));
+
+        AdminUserPage page = adminUserService.search(byCreated, null, 2);
+
+        AdminUserCursor cursor = AdminUserCursor.decode(page.nextCursor(), AdminUserSort.CREATED);
+        assertEquals(CREATED.plusMinutes(2), cursor.created());
+        assertEquals(2L, cursor.id());
+    }
+
+    @Test
+    public void testCursorFromDifferentSearchIsRejected() {
+        String idCursor = new AdminUserCursor(AdminUserSort.ID, "", 13L).encode();
+        AdminUserFilter byEmail = new AdminUserFilter(null, null, null, "user", null, null, null);
+
+        assertThrows(ResponseStatusException.class, () -> adminUserService.search(byEmail, idCursor, 3));
+        assertThrows(ResponseStatusException.class, () -> adminUserService.search(NO_FILTER, "not a cursor", 3));
+    }
+
+    @Test
+    public void testPageSizeIsCappedAndPrefixesNormalized() {
+        when(adminUserQuery.findPage(any(), any(), eq(null), anyInt())).thenReturn(List.of());
+
+        adminUserService.search(
+                new AdminUserFilter(null, null, null, " User@Ex", "JOHN", null, null), null, 10_000);
+
+        ArgumentCaptor<AdminUserFilter> filter = ArgumentCaptor.forClass(AdminUserFilter.class);
+        verify(adminUserQuery).findPage(
+                filter.capture(), eq(AdminUserSort.EMAIL), eq(null), eq(AdminUserService.MAX_PAGE_SIZE + 1));
+        assertEquals("user@ex", filter.getValue().emailPrefix());
+        assertEquals("john", filter.getValue().usernamePrefix());
+    }
+}
@@ -0,0 +1,33 @@
+package com.chat.webchat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.chat.webchat.appuser.AppUserCredentials;
+import com.chat.webchat.appuser.AppUserRole;
+
+public class AppUserCredentialsTest {
+
+    private static final String HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BcqKjFJqtrqSHQZ4QnMEm3W.ESqe";
+
+    @Test
+    public void testToStringOmitsPassword() {
+        AppUserCredentials credentials =
+                new AppUserCredentials(1L, "user@example.com", HASH, AppUserRole.USER, false, true);
+
+        assertFalse(credentials.toString().contains(HASH));
+        assertTrue(credentials.toString().contains("user@example.com"));
+    }
+
+    @Test
+    public void testEqualityIgnoresPassword() {
+        AppUserCredentials credentials =
+                new AppUserCredentials(1L, "user@example.com", HASH, AppUserRole.USER, false, true);
+        AppUserCredentials rehashed =
+                new AppUserCredentials(1L, "user@example.com", "other", AppUserRole.USER, false, true);
+
+        assertEquals(credentials, rehashed);
+        assertEquals(credentials.hashCode(), rehashed.hashCode());
+    }
+}
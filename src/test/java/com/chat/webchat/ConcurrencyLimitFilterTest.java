@@ -0,0 +1,103 @@
+package com.chat.webchat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.chat.webchat.limit.AdaptiveConcurrencyLimiter;
+import com.chat.webchat.limit.ConcurrencyLimitFilter;
+import com.chat.webchat.limit.RequestLane;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter(20, 2, 100, Duration.ofSeconds(10), () -> 0L);
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, registry);
+
+    // Records how many requests the limiter held while the chain ran.
+    private MockFilterChain recordingChain(AtomicInteger inFlight) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                inFlight.set(limiter.getInFlight());
+            }
+        });
+    }
+
+    @Test
+    public void testLanesMatchBehindContextPathAndTrailingSlash() throws Exception {
+        for (MockHttpServletRequest request : new MockHttpServletRequest[] {
+                request("POST", "/app", "/app/login"),
+                request("GET", "/app", "/app/api/v1/registration/confirm/"),
+                request("POST", "", "/api/v1/registration/") }) {
+            AtomicInteger inFlight = new AtomicInteger();
+
+            filter.doFilter(request, new MockHttpServletResponse(), recordingChain(inFlight));
+
+            assertEquals(1, inFlight.get(), request.getRequestURI());
+            assertEquals(0, limiter.getInFlight());
+        }
+    }
+
+    @Test
+    public void testOtherRequestsBypassLimiter() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger(-1);
+
+        filter.doFilter(request("GET", "", "/api/v1/admin/users"), new MockHttpServletResponse(),
+                recordingChain(inFlight));
+
+        assertEquals(0, inFlight.get());
+    }
+
+    @Test
+    public void testRequestOverLaneShareGets503() throws Exception {
+        // Registration may use half of the limit of 20.
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(RequestLane.LOGIN));
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicInteger inFlight = new AtomicInteger(-1);
+
+        filter.doFilter(request("POST", "", "/api/v1/registration"), response, recordingChain(inFlight));
+
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("\"OVERLOADED\""));
+        assertEquals(-1, inFlight.get());
+        assertEquals(1.0, registry.get("concurrency.shed").tag("lane", "REGISTRATION").counter().count());
+    }
+
+    @Test
+    public void testExceptionReleasesPermitAsFailure() {
+        MockFilterChain failingChain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(
+                request("POST", "", "/login"), new MockHttpServletResponse(), failingChain));
+
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(18, limiter.getLimit());
+    }
+
+    private static MockHttpServletRequest request(String method, String contextPath, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setContextPath(contextPath);
+        return request;
+    }
+}
@@ -0,0 +1,174 @@
+package com.chat.webchat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.chat.webchat.registration.RegistrationRequest;
+import com.chat.webchat.registration.exception.EmailTakenException;
+import com.chat.webchat.registration.exception.IdempotencyKeyReusedException;
+import com.chat.webchat.registration.idempotency.InMemoryIdempotencyStore;
+import com.chat.webchat.registration.idempotency.RegistrationFingerprint;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class InMemoryIdempotencyStoreTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final InMemoryIdempotencyStore store =
+            new InMemoryIdempotencyStore(3, Duration.ofMinutes(10), clock::get, registry);
+
+    private static final RegistrationFingerprint FINGERPRINT = new RegistrationFingerprint();
+    private static final byte[] FIRST = fingerprint("password-1");
+    private static final byte[] SECOND = fingerprint("password-2");
+
+    private static byte[] fingerprint(String password) {
+        return FINGERPRINT.of(new RegistrationRequest("user", "user@example.com", password));
+    }
+
+    private double count(String outcome) {
+        return registry.get("registration.idempotency").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    public void testRepeatedKeyReturnsFirstResultWithoutRerunning() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertEquals("token-1", store.execute("key", FIRST, () -> "token-" + runs.incrementAndGet()));
+        assertEquals("token-1", store.execute("key", FIRST, () -> "token-" + runs.incrementAndGet()));
+
+        assertEquals(1, runs.get());
+        assertEquals(1.0, count("miss"));
+        assertEquals(1.0, count("hit"));
+    }
+
+    @Test
+    public void testConcurrentDuplicatesAreCoalesced() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        Future<String> first = executor.submit(() -> store.execute("key", FIRST, () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            awaitQuietly(release);
+            return "token";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<String> second = executor.submit(() -> store.execute("key", FIRST, () -> {
+            runs.incrementAndGet();
+            return "other";
+        }));
+
+        // The duplicate is counted before it starts waiting on the in-flight call.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("coalesced") < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        assertEquals("token", first.get(5, TimeUnit.SECONDS));
+        assertEquals("token", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+        assertEquals(1.0, count("coalesced"));
+        executor.shutdown();
+    }
+
+    @Test
+    public void testFailuresAreNotRemembered() {
+        assertThrows(EmailTakenException.class, () -> store.execute("key", FIRST, () -> {
+            throw new EmailTakenException("user@example.com");
+        }));
+
+        assertEquals("token", store.execute("key", FIRST, () -> "token"));
+        assertEquals(2.0, count("miss"));
+    }
+
+    @Test
+    public void testKeyReusedWithDifferentPayloadIsRejected() {
+        store.execute("key", FIRST, () -> "token");
+
+        assertThrows(IdempotencyKeyReusedException.class, () -> store.execute("key", SECOND, () -> "other"));
+        assertEquals(1.0, count("conflict"));
+    }
+
+    @Test
+    public void testEntriesExpireAfterTtl() {
+        store.execute("key", FIRST, () -> "token-1");
+        clock.addAndGet(Duration.ofMinutes(11).toNanos());
+
+        assertEquals("token-2", store.execute("key", FIRST, () -> "token-2"));
+    }
+
+    @Test
+    public void testOldestEntriesAreEvictedWhenFull() {
+        for (int i = 0; i < 5; i++) {
+            int n = i;
+            store.execute("key-" + n, fingerprint("password-" + n), () -> "token-" + n);
+        }
+
+        assertEquals(3, store.size());
+        assertEquals("again", store.execute("key-0", fingerprint("password-0"), () -> "again"));
+        assertEquals("token-4", store.execute("key-4", fingerprint("password-4"), () -> "unused"));
+    }
+
+    @Test
+    public void testFailedCallsDoNotGrowStore() {
+        for (int i = 0; i < 10_000; i++) {
+            assertThrows(EmailTakenException.class, () -> store.execute("failing-" + UUID.randomUUID(), FIRST, () -> {
+                throw new EmailTakenException("user@example.com");
+            }));
+        }
+        assertEquals(0, store.size());
+        assertEquals(0, store.trackedKeys());
+
+        for (int i = 0; i < 5; i++) {
+            int n = i;
+            store.execute("key-" + n, FIRST, () -> "token-" + n);
+        }
+        assertEquals(3, store.size());
+        assertEquals(3, store.trackedKeys());
+    }
+
+    @Test
+    public void testFingerprintUsesCanonicalIdentifiers() {
+        byte[] canonical = FINGERPRINT.of(
+                new RegistrationRequest("user", "user@example.com", "password-1"));
+        byte[] formatted = FINGERPRINT.of(
+                new RegistrationRequest(" User", "USER@example.com ", "password-1"));
+        byte[] shifted = FINGERPRINT.of(
+                new RegistrationRequest("user", "user@example.compassword-1", ""));
+
+        assertArrayEquals(canonical, formatted);
+        assertFalse(Arrays.equals(canonical, shifted));
+        assertFalse(Arrays.equals(canonical, SECOND));
+    }
+
+    @Test
+    public void testFingerprintIsKeyedPerInstance() {
+        RegistrationRequest request = new RegistrationRequest("user", "user@example.com", "password-1");
+
+        assertFalse(Arrays.equals(FINGERPRINT.of(request), new RegistrationFingerprint().of(request)));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
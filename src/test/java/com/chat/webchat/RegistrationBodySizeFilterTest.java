@@ -0,0 +1,80 @@
+package com.chat.webchat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.chat.webchat.registration.exception.InvalidRegistrationRequestException;
+import com.chat.webchat.registration.validation.RegistrationBodySizeFilter;
+import com.chat.webchat.registration.validation.RegistrationRejectionCounter;
+import com.chat.webchat.registration.validation.RejectionReason;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class RegistrationBodySizeFilterTest {
+
+    private final RegistrationRejectionCounter rejectionCounter =
+            new RegistrationRejectionCounter(new SimpleMeterRegistry());
+    private final RegistrationBodySizeFilter filter = new RegistrationBodySizeFilter(rejectionCounter, 64);
+
+    private static MockHttpServletRequest post(String uri, byte[] body, boolean chunked) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri) {
+            @Override
+            public long getContentLengthLong() {
+                return chunked ? -1 : super.getContentLengthLong();
+            }
+        };
+        request.setContent(body);
+        return request;
+    }
+
+    // Reads the whole body the way the JSON converter would.
+    private static MockFilterChain readingChain() {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response)
+                    throws IOException {
+                request.getInputStream().readAllBytes();
+            }
+        });
+    }
+
+    @Test
+    public void testDeclaredOversizedBodyIsRejectedWith413() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(post("/api/v1/registration/", new byte[100], false), response, readingChain());
+
+        assertEquals(413, response.getStatus());
+        assertEquals(1.0, rejectionCounter.count(RejectionReason.BODY_TOO_LARGE));
+    }
+
+    @Test
+    public void testChunkedOversizedBodyIsCutOffWhileReading() {
+        InvalidRegistrationRequestException exception = assertThrows(InvalidRegistrationRequestException.class,
+                () -> filter.doFilter(post("/api/v1/registration", new byte[100], true),
+                        new MockHttpServletResponse(), readingChain()));
+
+        assertEquals(RejectionReason.BODY_TOO_LARGE, exception.getReason());
+        assertEquals(413, exception.getStatus().value());
+    }
+
+    @Test
+    public void testSmallChunkedBodyPassesThrough() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(post("/api/v1/registration", "{}".getBytes(StandardCharsets.UTF_8), true),
+                response, readingChain());
+
+        assertEquals(200, response.getStatus());
+    }
+}
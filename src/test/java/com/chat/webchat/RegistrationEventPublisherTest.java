@@ -0,0 +1,83 @@
+package com.chat.webchat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.chat.webchat.registration.event.RegistrationEventPublisher;
+import com.chat.webchat.registration.event.RegistrationEventType;
+
+public class RegistrationEventPublisherTest {
+
+    @Test
+    public void testPublishedEventsReachSinkInOrder() throws InterruptedException {
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+        RegistrationEventPublisher publisher = new RegistrationEventPublisher((event, endOfBatch) -> {
+            received.add(event.getType() + ":" + event.getEmail());
+            latch.countDown();
+        }, 8);
+
+        publisher.publish(RegistrationEventType.REGISTERED, "user123", "user@example.com");
+        publisher.publish(RegistrationEventType.EMAIL_SENT, "user123", "user@example.com");
+        publisher.publish(RegistrationEventType.CONFIRMED, "user123", "user@example.com");
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        publisher.shutdown();
+
+        assertEquals(List.of(
+                "REGISTERED:user@example.com",
+                "EMAIL_SENT:user@example.com",
+                "CONFIRMED:user@example.com"), received);
+        assertEquals(0, publisher.getDropped());
+    }
+
+    @Test
+    public void testAfterCommitEventsWaitForCommit() throws InterruptedException {
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        RegistrationEventPublisher publisher = new RegistrationEventPublisher((event, endOfBatch) -> {
+            received.add(event.getType() + ":" + event.getEmail());
+            latch.countDown();
+        }, 8);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            publisher.publishAfterCommit(RegistrationEventType.CONFIRMED, "user123", "user@example.com");
+            assertFalse(latch.await(100, TimeUnit.MILLISECONDS));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        publisher.shutdown();
+        assertEquals(List.of("CONFIRMED:user@example.com"), received);
+    }
+
+    @Test
+    public void testAfterCommitEventsAreDroppedOnRollback() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        RegistrationEventPublisher publisher = new RegistrationEventPublisher((event, endOfBatch) -> latch.countDown(), 8);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            publisher.publishAfterCommit(RegistrationEventType.CONFIRMED, "user123", "user@example.com");
+            TransactionSynchronizationManager.getSynchronizations().forEach(
+                    synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(latch.await(100, TimeUnit.MILLISECONDS));
+        publisher.shutdown();
+    }
+}
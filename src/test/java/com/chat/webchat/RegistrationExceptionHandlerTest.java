@@ -0,0 +1,61 @@
+package com.chat.webchat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.chat.webchat.registration.RegistrationExceptionHandler;
+import com.chat.webchat.registration.exception.EmailTakenException;
+import com.chat.webchat.registration.exception.InvalidRegistrationRequestException;
+import com.chat.webchat.registration.exception.RegistrationError;
+import com.chat.webchat.registration.exception.TokenExpiredException;
+import com.chat.webchat.registration.exception.TokenNotFoundException;
+import com.chat.webchat.registration.validation.RegistrationRejectionCounter;
+import com.chat.webchat.registration.validation.RejectionReason;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class RegistrationExceptionHandlerTest {
+
+    private final RegistrationRejectionCounter rejectionCounter =
+            new RegistrationRejectionCounter(new SimpleMeterRegistry());
+    private final RegistrationExceptionHandler handler = new RegistrationExceptionHandler(rejectionCounter);
+
+    @Test
+    public void testEmailTakenMapsToConflict() {
+        ResponseEntity<RegistrationError> response =
+                handler.handleRegistrationException(new EmailTakenException("user@example.com"));
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(new RegistrationError("EMAIL_TAKEN", "Email [user@example.com] has already been taken."),
+                response.getBody());
+    }
+
+    @Test
+    public void testTokenExpiredMapsToGone() {
+        ResponseEntity<RegistrationError> response = handler.handleRegistrationException(new TokenExpiredException());
+
+        assertEquals(HttpStatus.GONE, response.getStatusCode());
+        assertEquals("TOKEN_EXPIRED", response.getBody().code());
+    }
+
+    @Test
+    public void testTokenNotFoundMapsToNotFoundWithoutStackTrace() {
+        TokenNotFoundException exception = new TokenNotFoundException();
+
+        assertEquals(HttpStatus.NOT_FOUND, handler.handleRegistrationException(exception).getStatusCode());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    public void testInvalidRequestMapsToBadRequestAndIsCounted() {
+        ResponseEntity<RegistrationError> response = handler.handleInvalidRequest(
+                new InvalidRegistrationRequestException(RejectionReason.INVALID_EMAIL));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("INVALID_EMAIL", response.getBody().code());
+        assertEquals(1.0, rejectionCounter.count(RejectionReason.INVALID_EMAIL));
+    }
+}
@@ -0,0 +1,41 @@
+package com.chat.webchat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.chat.webchat.profiling.RegistrationRecordingAnalyzer;
+import com.chat.webchat.profiling.RegistrationRecordingAnalyzer.StageSummary;
+import com.chat.webchat.profiling.RegistrationStage;
+import com.chat.webchat.profiling.RegistrationStageEvent;
+
+import jdk.jfr.Recording;
+
+public class RegistrationRecordingAnalyzerTest {
+
+    @Test
+    public void testSummarizesRecordedStages(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("registration.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RegistrationStageEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            for (int i = 0; i < 10; i++) {
+                RegistrationStageEvent.start(RegistrationStage.PASSWORD_HASH).commit();
+            }
+            RegistrationStageEvent.start(RegistrationStage.SMTP_SEND).commit();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, StageSummary> summaries = RegistrationRecordingAnalyzer.summarize(file);
+
+        assertEquals(10, summaries.get("PASSWORD_HASH").count());
+        assertEquals(1, summaries.get("SMTP_SEND").count());
+        assertTrue(summaries.get("PASSWORD_HASH").p50Nanos() <= summaries.get("PASSWORD_HASH").maxNanos());
+    }
+}
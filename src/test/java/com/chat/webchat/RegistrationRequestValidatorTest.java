@@ -0,0 +1,86 @@
+package com.chat.webchat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.chat.webchat.registration.RegistrationRequest;
+import com.chat.webchat.registration.exception.InvalidRegistrationRequestException;
+import com.chat.webchat.registration.validation.RegistrationRequestValidator;
+import com.chat.webchat.registration.validation.RejectionReason;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class RegistrationRequestValidatorTest {
+
+    private final RegistrationRequestValidator validator = new RegistrationRequestValidator();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RejectionReason rejectionOf(RegistrationRequest request) {
+        return assertThrows(InvalidRegistrationRequestException.class, () -> validator.validate(request))
+                .getReason();
+    }
+
+    @Test
+    public void testValidRequestPasses() {
+        assertDoesNotThrow(() -> validator.validate(
+                new RegistrationRequest("user123", "user@example.com", "password123")));
+    }
+
+    @Test
+    public void testRejectsMissingFields() {
+        assertEquals(RejectionReason.MISSING_FIELD, rejectionOf(new RegistrationRequest(null, null, null)));
+    }
+
+    @Test
+    public void testRejectsInvalidUsername() {
+        assertEquals(RejectionReason.INVALID_USERNAME,
+                rejectionOf(new RegistrationRequest("", "user@example.com", "password123")));
+        assertEquals(RejectionReason.INVALID_USERNAME,
+                rejectionOf(new RegistrationRequest("user 123", "user@example.com", "password123")));
+    }
+
+    @Test
+    public void testRejectsInvalidEmail() {
+        assertEquals(RejectionReason.INVALID_EMAIL,
+                rejectionOf(new RegistrationRequest("user123", "invalid-email", "password123")));
+    }
+
+    @Test
+    public void testRejectsShortPassword() {
+        assertEquals(RejectionReason.INVALID_PASSWORD,
+                rejectionOf(new RegistrationRequest("user123", "user@example.com", "short")));
+    }
+
+    @Test
+    public void testPasswordLimitCountsUtf8Bytes() {
+        // 30 characters, 90 bytes in UTF-8: bcrypt would silently truncate it.
+        assertEquals(RejectionReason.INVALID_PASSWORD,
+                rejectionOf(new RegistrationRequest("user123", "user@example.com", "\u20ac".repeat(30))));
+        assertDoesNotThrow(() -> validator.validate(
+                new RegistrationRequest("user123", "user@example.com", "\u20ac".repeat(24))));
+    }
+
+    @Test
+    public void testDeserializerReadsKnownFieldsAndSkipsOthers() throws Exception {
+        RegistrationRequest request = objectMapper.readValue(
+                "{\"username\":\"user123\",\"extra\":{\"a\":[1,2]},\"email\":\"user@example.com\",\"password\":\"password123\"}",
+                RegistrationRequest.class);
+
+        assertEquals(new RegistrationRequest("user123", "user@example.com", "password123"), request);
+    }
+
+    @Test
+    public void testDeserializerRejectsOversizedField() {
+        String json = "{\"username\":\"user123\",\"email\":\"user@example.com\",\"password\":\"" + "x".repeat(10_000) + "\"}";
+
+        Exception exception = assertThrows(Exception.class,
+                () -> objectMapper.readValue(json, RegistrationRequest.class));
+
+        Throwable cause = exception;
+        while (cause != null && !(cause instanceof InvalidRegistrationRequestException)) {
+            cause = cause.getCause();
+        }
+        assertNotNull(cause);
+        assertEquals(RejectionReason.FIELD_TOO_LONG, ((InvalidRegistrationRequestException) cause).getReason());
+    }
+}
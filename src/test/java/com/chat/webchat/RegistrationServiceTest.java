@@ -4,6 +4,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
@@ -12,12 +13,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.hibernate.exception.ConstraintViolationException;
 import com.chat.webchat.appuser.AppUser;
 import com.chat.webchat.appuser.AppUserRole;
 import com.chat.webchat.appuser.AppUserService;
 import com.chat.webchat.email.EmailService;
 import com.chat.webchat.registration.RegistrationRequest;
 import com.chat.webchat.registration.RegistrationService;
+import com.chat.webchat.registration.event.RegistrationEventPublisher;
+import com.chat.webchat.registration.event.RegistrationEventType;
+import com.chat.webchat.registration.exception.EmailTakenException;
+import com.chat.webchat.registration.exception.TokenExpiredException;
+import com.chat.webchat.registration.exception.UsernameTakenException;
 import com.chat.webchat.registration.token.ConfirmationToken;
 import com.chat.webchat.registration.token.ConfirmationTokenService;
 
@@ -33,12 +41,15 @@ public class RegistrationServiceTest {
     @Mock
     private ConfirmationTokenService confirmationTokenService;
 
+    @Mock
+    private RegistrationEventPublisher eventPublisher;
+
     private RegistrationService registrationService;
 
     @BeforeEach
     public void setup() {
         MockitoAnnotations.openMocks(this);
-        registrationService = new RegistrationService(appUserService, confirmationTokenService, emailSender);
+        registrationService = new RegistrationService(appUserService, confirmationTokenService, emailSender, eventPublisher);
     }
 
     @Test
@@ -51,13 +62,26 @@ public class RegistrationServiceTest {
 
         when(appUserService.emailExists(anyString())).thenReturn(true);
 
-        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+        EmailTakenException exception = assertThrows(EmailTakenException.class, () -> {
             registrationService.register(request);
         });
         assertTrue(appUserService.emailExists(email));
         assertEquals("Email [user@example.com] has already been taken.", exception.getMessage());
     }
 
+    @Test
+    public void testRegisterNormalizesEmailBeforeLookup() {
+        RegistrationRequest request = new RegistrationRequest("user123", " User@Example.COM ", "password123");
+
+        when(appUserService.emailExists("user@example.com")).thenReturn(true);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+            registrationService.register(request);
+        });
+
+        assertEquals("Email [user@example.com] has already been taken.", exception.getMessage());
+    }
+
     @Test
     public void testRegisterWhenUsernameExists() {
         String email = "newuser@example.com";
@@ -91,6 +115,49 @@ public class RegistrationServiceTest {
 
         assertEquals(token, result);
         verify(emailSender, times(1)).send(eq(email), anyString());
+        verify(eventPublisher).publish(RegistrationEventType.REGISTERED, username, email);
+        verify(eventPublisher).publish(RegistrationEventType.EMAIL_SENT, username, email);
+    }
+
+    @Test
+    public void testRegisterWhenConcurrentSignupTakesEmail() {
+        RegistrationRequest request = new RegistrationRequest("user123", "user@example.com", "password123");
+
+        when(appUserService.signUpUser(any(AppUser.class))).thenThrow(uniqueViolation(AppUser.EMAIL_CONSTRAINT));
+
+        EmailTakenException exception = assertThrows(EmailTakenException.class, () -> {
+            registrationService.register(request);
+        });
+        assertEquals("Email [user@example.com] has already been taken.", exception.getMessage());
+        verifyNoInteractions(emailSender, eventPublisher);
+    }
+
+    @Test
+    public void testRegisterWhenConcurrentSignupTakesUsername() {
+        RegistrationRequest request = new RegistrationRequest("user123", "user@example.com", "password123");
+
+        when(appUserService.signUpUser(any(AppUser.class)))
+                .thenThrow(uniqueViolation(AppUser.USERNAME_KEY_CONSTRAINT));
+
+        assertThrows(UsernameTakenException.class, () -> {
+            registrationService.register(request);
+        });
+    }
+
+    @Test
+    public void testRegisterRethrowsOtherIntegrityViolations() {
+        RegistrationRequest request = new RegistrationRequest("user123", "user@example.com", "password123");
+
+        when(appUserService.signUpUser(any(AppUser.class))).thenThrow(uniqueViolation("fk_other"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> {
+            registrationService.register(request);
+        });
+    }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraint) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key", new SQLException("23505"), constraint));
     }
 
     @Test
@@ -223,7 +290,7 @@ public class RegistrationServiceTest {
 
         when(confirmationTokenService.getToken(token)).thenReturn(Optional.of(confirmationToken));
 
-        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+        TokenExpiredException exception = assertThrows(TokenExpiredException.class, () -> {
             registrationService.confirmToken(token);
         });
 
@@ -247,6 +314,7 @@ public class RegistrationServiceTest {
         assertEquals("Token confirmed successfully.", result);
         verify(confirmationTokenService).setConfirmed(token);
         verify(appUserService).enableAppUser(appUser.getUsername());
+        verify(eventPublisher).publishAfterCommit(RegistrationEventType.CONFIRMED, "user123", null);
     }
 
     @Test
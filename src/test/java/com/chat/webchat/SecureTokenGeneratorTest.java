@@ -0,0 +1,45 @@
+package com.chat.webchat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.chat.webchat.registration.token.SecureTokenGenerator;
+
+public class SecureTokenGeneratorTest {
+
+    @Test
+    public void testTokenLengthFollowsConfiguredBytes() {
+        assertEquals(32, new SecureTokenGenerator(24).generate().length());
+        assertEquals(22, new SecureTokenGenerator(16).generate().length());
+        assertEquals(43, new SecureTokenGenerator(32).generate().length());
+    }
+
+    @Test
+    public void testTokenIsUnpaddedBase64Url() {
+        SecureTokenGenerator generator = new SecureTokenGenerator(32);
+        for (int i = 0; i < 1000; i++) {
+            String token = generator.generate();
+            assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+            assertEquals(32, Base64.getUrlDecoder().decode(token).length);
+        }
+    }
+
+    @Test
+    public void testTokensAreUniqueAcrossBatches() {
+        SecureTokenGenerator generator = new SecureTokenGenerator(16);
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(tokens.add(generator.generate()));
+        }
+    }
+
+    @Test
+    public void testRejectsTooFewBytes() {
+        assertThrows(IllegalArgumentException.class, () -> new SecureTokenGenerator(8));
+    }
+}
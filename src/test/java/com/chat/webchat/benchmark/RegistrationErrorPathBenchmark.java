@@ -0,0 +1,68 @@
+package com.chat.webchat.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.ResponseEntity;
+
+import com.chat.webchat.registration.RegistrationExceptionHandler;
+import com.chat.webchat.registration.exception.EmailTakenException;
+import com.chat.webchat.registration.exception.RegistrationError;
+import com.chat.webchat.registration.exception.TokenNotFoundException;
+import com.chat.webchat.registration.validation.RegistrationRejectionCounter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Cost of raising and mapping an expected registration outcome, compared with
+ * the previous IllegalStateException and String.format approach.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegistrationErrorPathBenchmark {
+
+    private final RegistrationExceptionHandler handler = new RegistrationExceptionHandler(
+            new RegistrationRejectionCounter(new SimpleMeterRegistry()));
+    private final String email = "user@example.com";
+
+    @Benchmark
+    public IllegalStateException emailTakenWithStackTrace() {
+        return new IllegalStateException(String.format("Email [%s] has already been taken.", email));
+    }
+
+    @Benchmark
+    public ResponseEntity<RegistrationError> emailTakenStackless() {
+        return handler.handleRegistrationException(new EmailTakenException(email));
+    }
+
+    @Benchmark
+    public IllegalStateException tokenNotFoundWithStackTrace() {
+        return new IllegalStateException("Token not found.");
+    }
+
+    @Benchmark
+    public ResponseEntity<RegistrationError> tokenNotFoundStackless() {
+        return handler.handleRegistrationException(new TokenNotFoundException());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RegistrationErrorPathBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,65 @@
+package com.chat.webchat.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.chat.webchat.registration.event.RegistrationEventPublisher;
+import com.chat.webchat.registration.event.RegistrationEventType;
+
+/**
+ * Request-path cost of publishing a registration event.
+ * Run with {@code -prof gc} to check the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegistrationEventPublisherBenchmark {
+
+    private RegistrationEventPublisher publisher;
+
+    @Setup
+    public void setup() {
+        publisher = new RegistrationEventPublisher((event, endOfBatch) -> {
+        }, 65536);
+    }
+
+    @TearDown
+    public void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Benchmark
+    public void publish() {
+        publisher.publish(RegistrationEventType.REGISTERED, "user123", "user@example.com");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void publishContended() {
+        publisher.publish(RegistrationEventType.REGISTERED, "user123", "user@example.com");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RegistrationEventPublisherBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}